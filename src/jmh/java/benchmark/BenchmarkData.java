@@ -0,0 +1,54 @@
+package benchmark;
+
+import game.result.GameResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Creates and removes the data the benchmarks work on.
+ */
+final class BenchmarkData {
+    private static final ZonedDateTime FIRST_CREATED = ZonedDateTime.of(2023, 5, 28, 8, 35, 55, 0, ZoneOffset.UTC);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates results with random names and steps, always the same ones for the same count.
+     *
+     * @param count the number of results
+     * @return the results
+     */
+    static List<GameResult> results(int count) {
+        var random = new SplittableRandom(count);
+        var results = new ArrayList<GameResult>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(new GameResult("player-" + random.nextInt(1000), 18 + random.nextInt(200),
+                    FIRST_CREATED.plusSeconds(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Deletes a directory with everything in it.
+     *
+     * @param directory the directory to delete
+     * @throws IOException if any I/O error occurs
+     */
+    static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
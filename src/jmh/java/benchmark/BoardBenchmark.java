@@ -0,0 +1,107 @@
+package benchmark;
+
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import game.state.WallGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tinylog.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating the original board and moving its ball. Run with {@code -prof gc} to see the
+ * allocations of a move, which should be none, against those of {@link #legacyMove()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtinylog.writer.level=off")
+public class BoardBenchmark {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Position START = Position.of(1, 4);
+
+    private Board labyrinth;
+    private Board board;
+    private int next;
+    private Position legacyBall;
+    private int legacySteps;
+
+    /**
+     * Creates the board that is played.
+     */
+    @Setup
+    public void setup() {
+        labyrinth = new Board(START);
+        board = new Board(labyrinth, START);
+        legacyBall = START;
+    }
+
+    /**
+     * {@return a new board of the original labyrinth, built with its walls and slide table}
+     */
+    @Benchmark
+    public Board construct() {
+        return new Board(START);
+    }
+
+    /**
+     * {@return a new board that shares the labyrinth of another one}
+     */
+    @Benchmark
+    public Board constructShared() {
+        return new Board(labyrinth, START);
+    }
+
+    /**
+     * {@return the position of the ball after a move in the next direction}
+     */
+    @Benchmark
+    public Position move() {
+        board.move(DIRECTIONS[next++ & 3]);
+        return board.getBall();
+    }
+
+    /**
+     * Moves a ball on the same labyrinth the way {@code Board.move} did before it slid over cell
+     * indices: every step checks for the goal, looks up the cell of the ball and allocates the next
+     * position, and every move logs three messages.
+     *
+     * {@return the position of the ball after a move in the next direction}
+     */
+    @Benchmark
+    public Position legacyMove() {
+        Direction direction = DIRECTIONS[next++ & 3];
+        WallGrid walls = labyrinth.getWalls();
+        Position goal = labyrinth.getGoal();
+        while (!legacyBall.equals(goal)
+                && !walls.hasWall(walls.cellOf(legacyBall.row(), legacyBall.col()), direction)) {
+            legacyBall = new Position(legacyBall.row() + direction.getRowChange(),
+                    legacyBall.col() + direction.getColChange());
+        }
+        legacySteps++;
+        Logger.info("Moving in direction: {}", direction);
+        Logger.info("Movement finished. Final position: {}", legacyBall);
+        Logger.info("Total steps taken: {}", legacySteps);
+        return legacyBall;
+    }
+
+    /**
+     * {@return whether the ball can move in the next direction}
+     */
+    @Benchmark
+    public boolean canMove() {
+        return board.canMove(DIRECTIONS[next++ & 3]);
+    }
+}
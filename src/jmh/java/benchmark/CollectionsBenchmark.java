@@ -0,0 +1,189 @@
+package benchmark;
+
+import game.generator.RandomLabyrinthGenerator;
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import game.state.WallGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.collections.IntDeque;
+import util.collections.IntHashSet;
+import util.collections.IntIntHashMap;
+import util.collections.VisitedSet;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a breadth-first search over the cells where the ball can stop with the collections of
+ * {@code util.collections} against {@link HashSet} and {@link ArrayDeque} of positions, and the
+ * distances of those cells from the start with {@link IntIntHashMap} against a {@link HashMap} of
+ * positions. Run with {@code -prof gc} to compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtinylog.writer.level=off")
+public class CollectionsBenchmark {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The number of rows and columns of the labyrinth.
+     */
+    @Param({"32", "256"})
+    public int size;
+
+    private Board board;
+    private int startCell;
+    private final IntDeque intQueue = new IntDeque();
+    private final IntHashSet intSet = new IntHashSet();
+    private final IntIntHashMap intDistances = new IntIntHashMap(-1);
+    private VisitedSet visited;
+
+    /**
+     * Generates the labyrinth.
+     */
+    @Setup
+    public void setup() {
+        board = new RandomLabyrinthGenerator().generate(size, 42);
+        WallGrid walls = board.getWalls();
+        startCell = walls.cellOf(board.getBall().row(), board.getBall().col());
+        visited = new VisitedSet(walls.getCellCount());
+    }
+
+    /**
+     * {@return the number of reachable cells, found with a set and a queue of positions}
+     */
+    @Benchmark
+    public int positionHashSet() {
+        WallGrid walls = board.getWalls();
+        Set<Position> seen = new HashSet<>();
+        var queue = new ArrayDeque<Position>();
+        Position start = board.getBall();
+        seen.add(start);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            Position position = queue.poll();
+            int cell = walls.cellOf(position.row(), position.col());
+            for (Direction direction : DIRECTIONS) {
+                int next = board.slide(cell, direction);
+                Position nextPosition = Position.of(next / size, next % size);
+                if (seen.add(nextPosition)) {
+                    queue.add(nextPosition);
+                }
+            }
+        }
+        return seen.size();
+    }
+
+    /**
+     * {@return the number of reachable cells, found with an {@link IntHashSet} and an {@link IntDeque}}
+     */
+    @Benchmark
+    public int intHashSet() {
+        intSet.clear();
+        intQueue.clear();
+        intSet.add(startCell);
+        intQueue.addLast(startCell);
+        while (!intQueue.isEmpty()) {
+            int cell = intQueue.removeFirst();
+            for (Direction direction : DIRECTIONS) {
+                int next = board.slide(cell, direction);
+                if (intSet.add(next)) {
+                    intQueue.addLast(next);
+                }
+            }
+        }
+        return intSet.size();
+    }
+
+    /**
+     * {@return the number of reachable cells, found with a {@link VisitedSet} and an {@link IntDeque}}
+     */
+    @Benchmark
+    public int visitedSet() {
+        visited.reset(board.getWalls().getCellCount());
+        intQueue.clear();
+        visited.visit(startCell);
+        intQueue.addLast(startCell);
+        int count = 1;
+        while (!intQueue.isEmpty()) {
+            int cell = intQueue.removeFirst();
+            for (Direction direction : DIRECTIONS) {
+                int next = board.slide(cell, direction);
+                if (visited.visit(next)) {
+                    intQueue.addLast(next);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+    /**
+     * {@return the greatest number of moves to a reachable cell, found with a map of positions}
+     */
+    @Benchmark
+    public int positionDistanceMap() {
+        WallGrid walls = board.getWalls();
+        Map<Position, Integer> distances = new HashMap<>();
+        var queue = new ArrayDeque<Position>();
+        Position start = board.getBall();
+        distances.put(start, 0);
+        queue.add(start);
+        int farthest = 0;
+        while (!queue.isEmpty()) {
+            Position position = queue.poll();
+            int distance = distances.get(position) + 1;
+            int cell = walls.cellOf(position.row(), position.col());
+            for (Direction direction : DIRECTIONS) {
+                int next = board.slide(cell, direction);
+                Position nextPosition = Position.of(next / size, next % size);
+                if (distances.putIfAbsent(nextPosition, distance) == null) {
+                    queue.add(nextPosition);
+                    farthest = distance;
+                }
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * {@return the greatest number of moves to a reachable cell, found with an {@link IntIntHashMap}}
+     */
+    @Benchmark
+    public int intDistanceMap() {
+        intDistances.clear();
+        intQueue.clear();
+        intDistances.put(startCell, 0);
+        intQueue.addLast(startCell);
+        int farthest = 0;
+        while (!intQueue.isEmpty()) {
+            int cell = intQueue.removeFirst();
+            int distance = intDistances.get(cell) + 1;
+            for (Direction direction : DIRECTIONS) {
+                int next = board.slide(cell, direction);
+                if (intDistances.putIfAbsent(next, distance)) {
+                    intQueue.addLast(next);
+                    farthest = distance;
+                }
+            }
+        }
+        return farthest;
+    }
+}
@@ -0,0 +1,146 @@
+package benchmark;
+
+import game.result.BinaryGameResultManager;
+import game.result.GameResult;
+import game.result.GameResultManager;
+import game.result.IndexedGameResultManager;
+import game.result.JdbcGameResultManager;
+import game.result.JsonGameResultManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import util.JacksonHelper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GameResultManager#getBest(int)} of the storage backends with the same results. The
+ * 10 million row comparison of the JSON file and the database is run with {@code -p size=10000000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dtinylog.writer.level=off")
+public class GameResultManagerBenchmark {
+
+    /**
+     * The storage backends.
+     */
+    public enum Backend {
+        /**
+         * {@link JsonGameResultManager}.
+         */
+        JSON,
+        /**
+         * {@link IndexedGameResultManager} on a JSON file.
+         */
+        INDEXED,
+        /**
+         * {@link BinaryGameResultManager}.
+         */
+        BINARY,
+        /**
+         * {@link JdbcGameResultManager}.
+         */
+        JDBC
+    }
+
+    /**
+     * The backend that is measured.
+     */
+    @Param
+    public Backend backend;
+
+    /**
+     * The number of stored results.
+     */
+    @Param({"10000", "1000000"})
+    public int size;
+
+    /**
+     * The number of results asked for.
+     */
+    @Param({"10"})
+    public int limit;
+
+    private Path directory;
+    private GameResultManager manager;
+
+    /**
+     * Stores the results with the backend.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("result-benchmark");
+        List<GameResult> results = BenchmarkData.results(size);
+        manager = switch (backend) {
+            case JSON -> json(results);
+            case INDEXED -> {
+                var indexed = new IndexedGameResultManager(json(results), directory.resolve("results.json"),
+                        directory.resolve("results.best.json"));
+                indexed.rebuild();
+                yield indexed;
+            }
+            case BINARY -> {
+                var binary = new BinaryGameResultManager(directory.resolve("results.bin"));
+                binary.addAll(results);
+                yield binary;
+            }
+            case JDBC -> {
+                var jdbc = new JdbcGameResultManager(directory.resolve("results"));
+                jdbc.addAll(results);
+                yield jdbc;
+            }
+        };
+    }
+
+    /**
+     * Closes the backend and deletes its files.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        if (manager instanceof Closeable closeable) {
+            closeable.close();
+        }
+        BenchmarkData.delete(directory);
+    }
+
+    /**
+     * {@return the best results}
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @Benchmark
+    public List<GameResult> getBest() throws IOException {
+        return manager.getBest(limit);
+    }
+
+    private GameResultManager json(List<GameResult> results) throws IOException {
+        Path file = directory.resolve("results.json");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            JacksonHelper.writeList(out, results);
+        }
+        return new JsonGameResultManager(file);
+    }
+}
@@ -0,0 +1,97 @@
+package benchmark;
+
+import game.result.GameResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import util.JacksonHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing a JSON file of results at several sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dtinylog.writer.level=off")
+public class JacksonHelperBenchmark {
+
+    /**
+     * The number of results in the file.
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path directory;
+    private Path readFile;
+    private Path writeFile;
+    private List<GameResult> results;
+
+    /**
+     * Writes the file that is read.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("jackson-benchmark");
+        readFile = directory.resolve("read.json");
+        writeFile = directory.resolve("write.json");
+        results = BenchmarkData.results(size);
+        try (OutputStream out = Files.newOutputStream(readFile)) {
+            JacksonHelper.writeList(out, results);
+        }
+    }
+
+    /**
+     * Deletes the files.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkData.delete(directory);
+    }
+
+    /**
+     * {@return the results read from the file}
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @Benchmark
+    public List<GameResult> readList() throws IOException {
+        try (InputStream in = Files.newInputStream(readFile)) {
+            return JacksonHelper.readList(in, GameResult.class);
+        }
+    }
+
+    /**
+     * Writes the results to a file.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @Benchmark
+    public void writeList() throws IOException {
+        try (OutputStream out = Files.newOutputStream(writeFile)) {
+            JacksonHelper.writeList(out, results);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import game.state.Direction;
+import game.state.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the methods of {@link Position} that hash-based searches and the board call most.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtinylog.writer.level=off")
+public class PositionBenchmark {
+    private static final int COUNT = 64;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Position[] positions = new Position[COUNT];
+    private final Position[] copies = new Position[COUNT];
+    private int next;
+
+    /**
+     * Creates the positions, with equal but distinct copies so that {@code equals} compares fields.
+     */
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < COUNT; i++) {
+            positions[i] = new Position(random.nextInt(100), random.nextInt(100));
+            copies[i] = new Position(positions[i].row(), positions[i].col());
+        }
+    }
+
+    /**
+     * {@return the hash code of the next position}
+     */
+    @Benchmark
+    public int hashCodeOf() {
+        return positions[next++ & (COUNT - 1)].hashCode();
+    }
+
+    /**
+     * {@return whether the next position equals its copy, which it always does}
+     */
+    @Benchmark
+    public boolean equalsCopy() {
+        int i = next++ & (COUNT - 1);
+        return positions[i].equals(copies[i]);
+    }
+
+    /**
+     * {@return whether the next position equals the one after it}
+     */
+    @Benchmark
+    public boolean equalsOther() {
+        int i = next++ & (COUNT - 1);
+        return positions[i].equals(copies[(i + 1) & (COUNT - 1)]);
+    }
+
+    /**
+     * {@return the cached position with the coordinates of the next position}
+     */
+    @Benchmark
+    public Position of() {
+        Position position = positions[next++ & (COUNT - 1)];
+        return Position.of(position.row(), position.col());
+    }
+
+    /**
+     * {@return the neighbour of the next position in the next direction}
+     */
+    @Benchmark
+    public Position getAdjacentPosition() {
+        int i = next++;
+        return positions[i & (COUNT - 1)].getAdjacentPosition(DIRECTIONS[i & 3]);
+    }
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import game.state.Direction;
+import game.state.Square;
+import game.state.WallGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up a wall through a {@link Square} and directly in the {@link WallGrid} it views.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtinylog.writer.level=off")
+public class SquareBenchmark {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int SIZE = 64;
+
+    private final Square square = new Square();
+    private final WallGrid walls = new WallGrid(SIZE);
+    private int next;
+
+    /**
+     * Puts walls on some sides of the square and the cells of the grid.
+     */
+    @Setup
+    public void setup() {
+        square.setWall(Direction.UP);
+        square.setWall(Direction.LEFT);
+        for (int cell = 0; cell < walls.getCellCount(); cell += 3) {
+            walls.setWall(cell, DIRECTIONS[cell & 3]);
+        }
+    }
+
+    /**
+     * {@return whether the square has a wall in the next direction}
+     */
+    @Benchmark
+    public boolean hasWall() {
+        return square.hasWall(DIRECTIONS[next++ & 3]);
+    }
+
+    /**
+     * {@return whether the next cell of the grid has a wall in the next direction}
+     */
+    @Benchmark
+    public boolean gridHasWall() {
+        int i = next++;
+        return walls.hasWall(i & (SIZE * SIZE - 1), DIRECTIONS[i & 3]);
+    }
+}
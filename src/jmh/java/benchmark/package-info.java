@@ -0,0 +1,6 @@
+/**
+ * This package contains the JMH benchmarks of the game state and the result storage. They are run with
+ * {@code mvn -P benchmark test-compile exec:exec}, which writes the results to
+ * {@code target/jmh-result.json}.
+ */
+package benchmark;
@@ -0,0 +1,130 @@
+package game.engine;
+
+import game.result.GameResult;
+import game.result.GameResultManager;
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single game played on a labyrinth without a user interface. The session records the moves that
+ * changed the position of the ball, so a game can be reset and replayed. Sessions share nothing but
+ * the labyrinth and the result manager, and a session must be used by one thread at a time.
+ */
+public class GameSession {
+    private final Board labyrinth;
+    private final Position start;
+    private final String playerName;
+    private final GameResultManager results;
+    private final List<Direction> moves = new ArrayList<>();
+    private Board board;
+
+    /**
+     * Creates a {@code GameSession} object that starts from the ball position of the given board.
+     *
+     * @param labyrinth the board whose labyrinth and ball position are played
+     * @param playerName the name the results are submitted with
+     * @param results the manager the results are submitted to
+     */
+    public GameSession(@NonNull Board labyrinth, @NonNull String playerName, @NonNull GameResultManager results) {
+        this.labyrinth = labyrinth;
+        this.start = labyrinth.getBall();
+        this.playerName = playerName;
+        this.results = results;
+        reset();
+    }
+
+    /**
+     * {@return the board of the running game}
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * {@return the moves made since the last reset}
+     */
+    public List<Direction> getMoves() {
+        return List.copyOf(moves);
+    }
+
+    /**
+     * {@return the number of moves made since the last reset}
+     */
+    public int getSteps() {
+        return board.getSteps();
+    }
+
+    /**
+     * {@return whether the ball is on the goal}
+     */
+    public boolean isSolved() {
+        return board.getBall().equals(board.getGoal());
+    }
+
+    /**
+     * Moves the ball in the given direction if it can move that way.
+     *
+     * @param direction the direction of the move
+     * @return whether the ball moved
+     */
+    public boolean move(@NonNull Direction direction) {
+        if (!board.canMove(direction)) {
+            return false;
+        }
+        board.move(direction);
+        moves.add(direction);
+        return true;
+    }
+
+    /**
+     * Puts the ball back to its starting position and forgets the moves.
+     */
+    public void reset() {
+        board = new Board(labyrinth, start);
+        moves.clear();
+    }
+
+    /**
+     * Resets the game and makes the given moves. Moves the ball cannot make are skipped.
+     *
+     * @param replayed the moves to be made
+     * @return the number of moves that moved the ball
+     */
+    public int replay(@NonNull List<Direction> replayed) {
+        reset();
+        int moved = 0;
+        for (Direction direction : replayed) {
+            if (move(direction)) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Submits the result of the solved game.
+     *
+     * @return the submitted result
+     * @throws IllegalStateException when the game is not solved
+     * @throws IOException if the result cannot be stored
+     */
+    public GameResult submitResult() throws IllegalStateException, IOException {
+        if (!isSolved()) {
+            throw new IllegalStateException("The game is not solved");
+        }
+        GameResult result = GameResult.builder()
+                .playerName(playerName)
+                .steps(getSteps())
+                .created(ZonedDateTime.now())
+                .build();
+        results.add(result);
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package game.engine;
+
+import game.solver.BfsSolver;
+import game.state.Direction;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Chooses the moves of a game played by a {@link GameSession}. A player may keep state between the
+ * moves of a game, so every session needs its own player.
+ */
+@FunctionalInterface
+public interface Player {
+
+    /**
+     * Chooses the next move.
+     *
+     * @param session the session being played
+     * @return the direction of the next move, or {@code null} to give up the game
+     */
+    Direction nextMove(GameSession session);
+
+    /**
+     * Called before the first move of each game.
+     *
+     * @param session the session being played
+     */
+    default void startGame(GameSession session) {
+    }
+
+    /**
+     * {@return a player that makes random moves among those that move the ball}
+     *
+     * @param seed the seed of the random moves
+     */
+    static Player random(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Direction[] directions = Direction.values();
+        Direction[] possible = new Direction[directions.length];
+        return session -> {
+            int count = 0;
+            for (Direction direction : directions) {
+                if (session.getBoard().canMove(direction)) {
+                    possible[count++] = direction;
+                }
+            }
+            return count == 0 ? null : possible[random.nextInt(count)];
+        };
+    }
+
+    /**
+     * {@return a player that makes the given moves in order and then gives up}
+     *
+     * @param script the moves to be made in every game
+     */
+    static Player scripted(List<Direction> script) {
+        List<Direction> moves = List.copyOf(script);
+        return new Player() {
+            private int next;
+
+            @Override
+            public void startGame(GameSession session) {
+                next = 0;
+            }
+
+            @Override
+            public Direction nextMove(GameSession session) {
+                return next < moves.size() ? moves.get(next++) : null;
+            }
+        };
+    }
+
+    /**
+     * {@return a player that makes the moves of an optimal solution, or gives up if there is none}
+     */
+    static Player solver() {
+        BfsSolver solver = new BfsSolver();
+        return new Player() {
+            private List<Direction> moves = List.of();
+            private int next;
+
+            @Override
+            public void startGame(GameSession session) {
+                moves = solver.solve(session.getBoard()).map(solution -> solution.getMoves()).orElse(List.of());
+                next = 0;
+            }
+
+            @Override
+            public Direction nextMove(GameSession session) {
+                return next < moves.size() ? moves.get(next++) : null;
+            }
+        };
+    }
+}
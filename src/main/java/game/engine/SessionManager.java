@@ -0,0 +1,186 @@
+package game.engine;
+
+import game.result.GameResultManager;
+import game.state.Board;
+import game.state.Direction;
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hosts many game sessions on the same labyrinth in one JVM. Each session is confined: the actions
+ * submitted to it are queued and run one after the other by a shared pool of threads, so a session
+ * never runs on two threads at once and needs no locking of its own. The sessions are registered in
+ * a {@link ConcurrentHashMap}, so opening, using and closing sessions never blocks the other
+ * sessions.
+ */
+public class SessionManager implements Closeable {
+    /**
+     * The number of queued actions a session runs before it lets the other sessions go on.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    private final Board labyrinth;
+    private final GameResultManager results;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<Long, Mailbox> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    /**
+     * Creates a {@code SessionManager} object with one thread per processor.
+     *
+     * @param labyrinth the board whose labyrinth and ball position are played in every session
+     * @param results the manager the results are submitted to, which has to be thread-safe
+     */
+    public SessionManager(Board labyrinth, GameResultManager results) {
+        this(labyrinth, results, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a {@code SessionManager} object.
+     *
+     * @param labyrinth the board whose labyrinth and ball position are played in every session
+     * @param results the manager the results are submitted to, which has to be thread-safe
+     * @param threads the number of threads the sessions are run on
+     * @throws IllegalArgumentException when the number of threads is not positive
+     */
+    public SessionManager(@NonNull Board labyrinth, @NonNull GameResultManager results, int threads)
+            throws IllegalArgumentException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+        }
+        this.labyrinth = labyrinth;
+        this.results = results;
+        var count = new AtomicLong();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "game-session-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(threads, factory);
+    }
+
+    /**
+     * Opens a new session.
+     *
+     * @param playerName the name the results of the session are submitted with
+     * @return the identifier of the session
+     */
+    public long open(@NonNull String playerName) {
+        long id = nextId.incrementAndGet();
+        sessions.put(id, new Mailbox(new GameSession(labyrinth, playerName, results)));
+        return id;
+    }
+
+    /**
+     * Runs an action on a session after the actions submitted to it earlier.
+     *
+     * @param id the identifier of the session
+     * @param action the action, which must not keep the session for use outside of it
+     * @param <T> the type of the result of the action
+     * @return the result of the action
+     * @throws IllegalArgumentException when there is no open session with the identifier
+     */
+    public <T> CompletableFuture<T> submit(long id, @NonNull Function<GameSession, T> action)
+            throws IllegalArgumentException {
+        Mailbox mailbox = sessions.get(id);
+        if (mailbox == null) {
+            throw new IllegalArgumentException("No open session: " + id);
+        }
+        var future = new CompletableFuture<T>();
+        mailbox.actions.add(() -> {
+            try {
+                future.complete(action.apply(mailbox.session));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        schedule(mailbox);
+        return future;
+    }
+
+    /**
+     * Moves the ball of a session.
+     *
+     * @param id the identifier of the session
+     * @param direction the direction of the move
+     * @return whether the ball moved
+     * @throws IllegalArgumentException when there is no open session with the identifier
+     */
+    public CompletableFuture<Boolean> move(long id, @NonNull Direction direction) throws IllegalArgumentException {
+        return submit(id, session -> session.move(direction));
+    }
+
+    /**
+     * Closes a session. The actions submitted to it earlier are still run.
+     *
+     * @param id the identifier of the session
+     * @return whether the session was open
+     */
+    public boolean close(long id) {
+        return sessions.remove(id) != null;
+    }
+
+    /**
+     * {@return the number of open sessions}
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Closes all sessions and stops the threads after the actions already submitted have run.
+     */
+    @Override
+    public void close() {
+        sessions.clear();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(mailbox));
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Runnable action = mailbox.actions.poll();
+            if (action == null) {
+                break;
+            }
+            action.run();
+        }
+        mailbox.scheduled.set(false);
+        // An action may have been added after the last poll but before the flag was cleared.
+        if (!mailbox.actions.isEmpty()) {
+            schedule(mailbox);
+        }
+    }
+
+    private static final class Mailbox {
+        private final GameSession session;
+        private final Queue<Runnable> actions = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(GameSession session) {
+            this.session = session;
+        }
+    }
+}
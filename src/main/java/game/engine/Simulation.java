@@ -0,0 +1,147 @@
+package game.engine;
+
+import game.result.GameResult;
+import game.result.GameResultManager;
+import game.state.Board;
+import game.state.Direction;
+import lombok.NonNull;
+import org.tinylog.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Plays many games of a labyrinth as fast as possible. Every session runs on its own thread with its
+ * own {@link GameSession} and {@link Player}, and the sessions take the games to play from a shared
+ * counter.
+ */
+public class Simulation {
+    private static final GameResultManager DISCARD = new GameResultManager() {
+        @Override
+        public void add(GameResult result) {
+        }
+
+        @Override
+        public List<GameResult> getAll() {
+            return List.of();
+        }
+    };
+
+    private final Board labyrinth;
+    private final IntFunction<Player> players;
+    private final int maxMoves;
+
+    /**
+     * Creates a {@code Simulation} object.
+     *
+     * @param labyrinth the board whose labyrinth and ball position are played
+     * @param players creates the player of a session from the index of the session
+     * @param maxMoves the number of moves, including those that did not move the ball, after which a game
+     *                 is given up
+     * @throws IllegalArgumentException when the number of moves is not positive
+     */
+    public Simulation(@NonNull Board labyrinth, @NonNull IntFunction<Player> players, int maxMoves)
+            throws IllegalArgumentException {
+        if (maxMoves <= 0) {
+            throw new IllegalArgumentException("Maximal number of moves must be positive: " + maxMoves);
+        }
+        this.labyrinth = labyrinth;
+        this.players = players;
+        this.maxMoves = maxMoves;
+    }
+
+    /**
+     * Plays the games without storing their results.
+     *
+     * @param sessions the number of sessions played in parallel
+     * @param games the number of games played in all sessions
+     * @return the figures of the simulation
+     * @throws IllegalArgumentException when the number of sessions is not positive
+     */
+    public SimulationReport run(int sessions, long games) throws IllegalArgumentException {
+        try {
+            return run(sessions, games, DISCARD);
+        } catch (IOException e) {
+            throw new IllegalStateException("Discarding a result failed", e);
+        }
+    }
+
+    /**
+     * Plays the games and submits the results of the solved ones.
+     *
+     * @param sessions the number of sessions played in parallel
+     * @param games the number of games played in all sessions
+     * @param results the manager the results are submitted to, which has to be thread-safe
+     * @return the figures of the simulation
+     * @throws IllegalArgumentException when the number of sessions is not positive
+     * @throws IOException if a result cannot be stored
+     */
+    public SimulationReport run(int sessions, long games, @NonNull GameResultManager results)
+            throws IllegalArgumentException, IOException {
+        if (sessions <= 0) {
+            throw new IllegalArgumentException("Number of sessions must be positive: " + sessions);
+        }
+        var remaining = new AtomicLong(games);
+        var solved = new AtomicLong();
+        var moves = new AtomicLong();
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(sessions);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < sessions; i++) {
+                var session = new GameSession(labyrinth, "bot-" + i, results);
+                Player player = players.apply(i);
+                futures.add(pool.submit(() -> {
+                    long sessionSolved = 0;
+                    long sessionMoves = 0;
+                    while (remaining.getAndDecrement() > 0) {
+                        if (play(session, player)) {
+                            session.submitResult();
+                            sessionSolved++;
+                        }
+                        sessionMoves += session.getSteps();
+                    }
+                    solved.addAndGet(sessionSolved);
+                    moves.addAndGet(sessionMoves);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while simulating", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("A session failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        var report = new SimulationReport(Math.max(games, 0), solved.get(), moves.get(), System.nanoTime() - start);
+        Logger.info("Simulation finished: {}", report);
+        return report;
+    }
+
+    private boolean play(GameSession session, Player player) {
+        session.reset();
+        player.startGame(session);
+        for (int attempt = 0; attempt < maxMoves && !session.isSolved(); attempt++) {
+            Direction direction = player.nextMove(session);
+            if (direction == null) {
+                return false;
+            }
+            session.move(direction);
+        }
+        return session.isSolved();
+    }
+}
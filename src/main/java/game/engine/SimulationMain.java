@@ -0,0 +1,98 @@
+package game.engine;
+
+import game.generator.RandomLabyrinthGenerator;
+import game.result.ConcurrentGameResultManager;
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Plays games without a display and prints how fast they were played. The options are given as
+ * {@code --name=value}:
+ * <ul>
+ *     <li>{@code mode}: {@code random}, {@code solver} or {@code script}, by default {@code random}</li>
+ *     <li>{@code script}: the moves of the {@code script} mode as letters {@code U}, {@code R},
+ *     {@code D} and {@code L}</li>
+ *     <li>{@code games}: the number of games, by default 100000</li>
+ *     <li>{@code sessions}: the number of sessions played in parallel, by default one per processor</li>
+ *     <li>{@code size} and {@code seed}: the size and seed of a generated labyrinth, by default the
+ *     original 7x7 one is played</li>
+ *     <li>{@code max-moves}: the number of moves after which a game is given up, by default 1000</li>
+ *     <li>{@code results}: a JSON file the results of the solved games are added to</li>
+ * </ul>
+ */
+public class SimulationMain {
+
+    /**
+     * Runs the simulation.
+     *
+     * @param args the options
+     * @throws IOException if a result cannot be stored
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        long seed = Long.parseLong(options.getOrDefault("seed", "0"));
+        int size = Integer.parseInt(options.getOrDefault("size", "0"));
+        Board labyrinth = size == 0
+                ? new Board(Position.of(1, 4))
+                : new RandomLabyrinthGenerator().generate(size, seed);
+        var simulation = new Simulation(labyrinth, players(options, seed),
+                Integer.parseInt(options.getOrDefault("max-moves", "1000")));
+        int sessions = Integer.parseInt(options.getOrDefault("sessions",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long games = Long.parseLong(options.getOrDefault("games", "100000"));
+        SimulationReport report = options.containsKey("results")
+                ? simulation.run(sessions, games, new ConcurrentGameResultManager(Path.of(options.get("results"))))
+                : simulation.run(sessions, games);
+        System.out.println(report);
+    }
+
+    private static Map<String, String> parse(String[] args) throws IllegalArgumentException {
+        var options = new HashMap<String, String>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options must look like --name=value: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static IntFunction<Player> players(Map<String, String> options, long seed)
+            throws IllegalArgumentException {
+        String mode = options.getOrDefault("mode", "random");
+        return switch (mode) {
+            case "random" -> session -> Player.random(seed + session);
+            case "solver" -> session -> Player.solver();
+            case "script" -> {
+                List<Direction> script = script(options.getOrDefault("script", ""));
+                yield session -> Player.scripted(script);
+            }
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        };
+    }
+
+    private static List<Direction> script(String letters) throws IllegalArgumentException {
+        var script = new ArrayList<Direction>();
+        for (char letter : letters.toUpperCase(Locale.ROOT).toCharArray()) {
+            script.add(switch (letter) {
+                case 'U' -> Direction.UP;
+                case 'R' -> Direction.RIGHT;
+                case 'D' -> Direction.DOWN;
+                case 'L' -> Direction.LEFT;
+                default -> throw new IllegalArgumentException("Unknown move: " + letter);
+            });
+        }
+        return script;
+    }
+}
@@ -0,0 +1,70 @@
+package game.engine;
+
+/**
+ * Represents the throughput figures of a finished {@link Simulation}.
+ */
+public class SimulationReport {
+    private final long games;
+    private final long solved;
+    private final long moves;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a {@code SimulationReport} object.
+     *
+     * @param games the number of games played
+     * @param solved the number of games in which the ball reached the goal
+     * @param moves the number of moves made in all games
+     * @param elapsedNanos the duration of the simulation in nanoseconds
+     */
+    public SimulationReport(long games, long solved, long moves, long elapsedNanos) {
+        this.games = games;
+        this.solved = solved;
+        this.moves = moves;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * {@return the number of games played}
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * {@return the number of games in which the ball reached the goal}
+     */
+    public long getSolved() {
+        return solved;
+    }
+
+    /**
+     * {@return the number of moves made in all games}
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * {@return the duration of the simulation in nanoseconds}
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * {@return the number of games played per second}
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * {@return the string representation of the {@code SimulationReport} object}
+     */
+    @Override
+    public String toString() {
+        return String.format("%d games, %d solved, %d moves, %.0f games/s",
+                games, solved, moves, getGamesPerSecond());
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains a headless engine that plays the labyrinth game without a display.
+ */
+package game.engine;
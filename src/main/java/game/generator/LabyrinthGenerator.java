@@ -0,0 +1,39 @@
+package game.generator;
+
+import game.state.Board;
+
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates solvable labyrinth boards of arbitrary size.
+ */
+public interface LabyrinthGenerator {
+
+    /**
+     * Generates a board. The same size and seed always produce the same board.
+     *
+     * @param size the number of rows and columns of the board
+     * @param seed the seed of the random generator
+     * @return a board whose goal can be reached from the ball position
+     */
+    Board generate(int size, long seed);
+
+    /**
+     * Returns an infinite ordered stream of boards that are generated lazily when they are consumed.
+     * The seed of each board is derived from the given seed and the position of the board only, so
+     * the stream yields the same boards when it is consumed in parallel.
+     *
+     * @param size the number of rows and columns of the boards
+     * @param seed the seed of the sequence of boards
+     * @return a lazily evaluated stream of boards
+     */
+    default Stream<Board> stream(int size, long seed) {
+        // SplittableRandom adds this gamma to its seed for every value, so the first value of one
+        // seeded with seed + i * gamma is value number i + 1 of one seeded with seed.
+        long gamma = 0x9E3779B97F4A7C15L;
+        return LongStream.iterate(seed, boardSeed -> boardSeed + gamma)
+                .mapToObj(boardSeed -> generate(size, new SplittableRandom(boardSeed).nextLong()));
+    }
+}
@@ -0,0 +1,46 @@
+package game.generator;
+
+import game.state.Board;
+
+/**
+ * Represents a generated board together with the length of its optimal solution.
+ */
+public class Puzzle {
+    private final Board board;
+    private final int optimalLength;
+    private final long seed;
+
+    /**
+     * Creates a {@code Puzzle} object.
+     *
+     * @param board the board of the puzzle
+     * @param optimalLength the minimal number of moves that takes the ball to the goal
+     * @param seed the seed the labyrinth was generated from
+     */
+    public Puzzle(Board board, int optimalLength, long seed) {
+        this.board = board;
+        this.optimalLength = optimalLength;
+        this.seed = seed;
+    }
+
+    /**
+     * {@return the board of the puzzle}
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * {@return the minimal number of moves that takes the ball to the goal}
+     */
+    public int getOptimalLength() {
+        return optimalLength;
+    }
+
+    /**
+     * {@return the seed the labyrinth was generated from}
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
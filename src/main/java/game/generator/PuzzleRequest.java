@@ -0,0 +1,42 @@
+package game.generator;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Describes the puzzles a {@link PuzzleSearch} has to find.
+ */
+@Value
+@Builder
+public class PuzzleRequest {
+
+    /**
+     * The number of rows and columns of the boards.
+     */
+    @Builder.Default int size = 7;
+
+    /**
+     * The minimal accepted length of the optimal solution.
+     */
+    int minLength;
+
+    /**
+     * The maximal accepted length of the optimal solution.
+     */
+    int maxLength;
+
+    /**
+     * The number of puzzles to find.
+     */
+    int quota;
+
+    /**
+     * The number of candidate labyrinths after which the search gives up.
+     */
+    @Builder.Default long maxCandidates = Long.MAX_VALUE;
+
+    /**
+     * The seed from which the seeds of the candidate labyrinths are derived.
+     */
+    long seed;
+}
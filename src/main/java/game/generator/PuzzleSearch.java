@@ -0,0 +1,154 @@
+package game.generator;
+
+import game.solver.DistanceSolver;
+import game.state.Board;
+import game.state.Position;
+import org.tinylog.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Searches for puzzles whose optimal solution length falls within a requested band. Candidate
+ * labyrinths are generated and examined by a pool of workers, and the search stops as soon as the
+ * quota is filled. The generator is shared by the workers, so it has to be thread-safe.
+ */
+public class PuzzleSearch {
+    private final LabyrinthGenerator generator;
+    private final int workers;
+    private final DistanceSolver solver = new DistanceSolver();
+
+    /**
+     * Creates a {@code PuzzleSearch} object.
+     *
+     * @param generator the generator of the candidate labyrinths
+     * @param workers the number of threads that examine candidates
+     * @throws IllegalArgumentException when the number of workers is not positive
+     */
+    public PuzzleSearch(LabyrinthGenerator generator, int workers) throws IllegalArgumentException {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Number of workers must be positive: " + workers);
+        }
+        this.generator = generator;
+        this.workers = workers;
+    }
+
+    /**
+     * Runs a search. The returned list contains fewer puzzles than the quota only if the candidate
+     * limit of the request was reached.
+     *
+     * @param request the description of the puzzles to find
+     * @return the puzzles found and the statistics of the search
+     * @throws IllegalArgumentException when the length band or the quota is invalid
+     */
+    public SearchResult search(PuzzleRequest request) throws IllegalArgumentException {
+        if (request.getMinLength() < 1 || request.getMaxLength() < request.getMinLength()) {
+            throw new IllegalArgumentException("Invalid length band: "
+                    + request.getMinLength() + "-" + request.getMaxLength());
+        }
+        if (request.getQuota() < 0) {
+            throw new IllegalArgumentException("Quota must not be negative: " + request.getQuota());
+        }
+        var puzzles = new ConcurrentLinkedQueue<Puzzle>();
+        var remaining = new AtomicInteger(request.getQuota());
+        var candidates = new AtomicLong();
+        var accepted = new AtomicLong();
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                futures.add(pool.submit(() -> {
+                    while (remaining.get() > 0 && !Thread.currentThread().isInterrupted()) {
+                        long index = candidates.getAndIncrement();
+                        if (index >= request.getMaxCandidates()) {
+                            candidates.decrementAndGet();
+                            return;
+                        }
+                        Puzzle puzzle = examine(request, candidateSeed(request.getSeed(), index));
+                        if (puzzle != null) {
+                            accepted.incrementAndGet();
+                            if (remaining.getAndDecrement() > 0) {
+                                puzzles.add(puzzle);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Puzzle search failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        var statistics = new SearchStatistics(candidates.get(), accepted.get(), System.nanoTime() - start);
+        Logger.info("Puzzle search finished: {}", statistics);
+        return new SearchResult(List.copyOf(puzzles), statistics);
+    }
+
+    private Puzzle examine(PuzzleRequest request, long seed) {
+        Board board = generator.generate(request.getSize(), seed);
+        int[] distances = solver.distances(board);
+        int inBand = 0;
+        for (int distance : distances) {
+            if (distance >= request.getMinLength() && distance <= request.getMaxLength()) {
+                inBand++;
+            }
+        }
+        if (inBand == 0) {
+            return null;
+        }
+        int index = new SplittableRandom(seed).nextInt(inBand);
+        for (int cell = 0; cell < distances.length; cell++) {
+            int distance = distances[cell];
+            if (distance >= request.getMinLength() && distance <= request.getMaxLength() && index-- == 0) {
+                Position ball = Position.of(cell / request.getSize(), cell % request.getSize());
+                return new Puzzle(new Board(board, ball), distance, seed);
+            }
+        }
+        throw new AssertionError(); // never happens
+    }
+
+    private static long candidateSeed(long seed, long index) {
+        return new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    /**
+     * Represents the outcome of a search.
+     */
+    public static class SearchResult {
+        private final List<Puzzle> puzzles;
+        private final SearchStatistics statistics;
+
+        SearchResult(List<Puzzle> puzzles, SearchStatistics statistics) {
+            this.puzzles = puzzles;
+            this.statistics = statistics;
+        }
+
+        /**
+         * {@return the puzzles found, in the order they were accepted}
+         */
+        public List<Puzzle> getPuzzles() {
+            return puzzles;
+        }
+
+        /**
+         * {@return the throughput figures of the search}
+         */
+        public SearchStatistics getStatistics() {
+            return statistics;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package game.generator;
+
+import game.solver.DistanceSolver;
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import game.state.WallGrid;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates boards by placing every inner wall independently with a given probability. The goal is
+ * chosen at random and the ball is placed on a random cell from which the goal can be reached,
+ * which is checked with a {@link DistanceSolver}.
+ */
+public class RandomLabyrinthGenerator implements LabyrinthGenerator {
+    private static final double DEFAULT_WALL_DENSITY = 0.2;
+    private static final int MAX_ATTEMPTS = 1000;
+
+    private final double wallDensity;
+    private final DistanceSolver solver = new DistanceSolver();
+
+    /**
+     * Creates a {@code RandomLabyrinthGenerator} object with the default wall density.
+     */
+    public RandomLabyrinthGenerator() {
+        this(DEFAULT_WALL_DENSITY);
+    }
+
+    /**
+     * Creates a {@code RandomLabyrinthGenerator} object.
+     *
+     * @param wallDensity the probability of a wall between two neighbouring cells
+     * @throws IllegalArgumentException when the density is negative or not less than 1, as a labyrinth
+     *                                  with every wall in place has no start cell
+     */
+    public RandomLabyrinthGenerator(double wallDensity) throws IllegalArgumentException {
+        if (wallDensity < 0 || wallDensity >= 1) {
+            throw new IllegalArgumentException("Wall density must be at least 0 and less than 1: " + wallDensity);
+        }
+        this.wallDensity = wallDensity;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException when the size is less than 2
+     * @throws IllegalStateException when no labyrinth with a reachable goal was found in 1000 attempts,
+     *                               which happens only with a density close to 1
+     */
+    @Override
+    public Board generate(int size, long seed) throws IllegalArgumentException, IllegalStateException {
+        if (size < 2) {
+            throw new IllegalArgumentException("Size must be at least 2: " + size);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            WallGrid walls = createWalls(size, random);
+            Position goal = Position.of(random.nextInt(size), random.nextInt(size));
+            Board board = new Board(walls, goal, goal);
+            int start = pickStart(solver.distances(board), random);
+            if (start >= 0) {
+                return new Board(board, Position.of(start / size, start % size));
+            }
+        }
+        throw new IllegalStateException("No solvable labyrinth found with wall density " + wallDensity);
+    }
+
+    private WallGrid createWalls(int size, SplittableRandom random) {
+        WallGrid walls = new WallGrid(size);
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (col < size - 1 && random.nextDouble() < wallDensity) {
+                    walls.addWall(row, col, Direction.RIGHT);
+                }
+                if (row < size - 1 && random.nextDouble() < wallDensity) {
+                    walls.addWall(row, col, Direction.DOWN);
+                }
+            }
+        }
+        return walls;
+    }
+
+    private static int pickStart(int[] distances, SplittableRandom random) {
+        int reachable = 0;
+        for (int distance : distances) {
+            if (distance > 0) {
+                reachable++;
+            }
+        }
+        if (reachable == 0) {
+            return -1;
+        }
+        int index = random.nextInt(reachable);
+        for (int cell = 0; cell < distances.length; cell++) {
+            if (distances[cell] > 0 && index-- == 0) {
+                return cell;
+            }
+        }
+        throw new AssertionError(); // never happens
+    }
+}
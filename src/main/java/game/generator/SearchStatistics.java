@@ -0,0 +1,67 @@
+package game.generator;
+
+/**
+ * Represents the throughput figures of a finished {@link PuzzleSearch}.
+ */
+public class SearchStatistics {
+    private final long candidates;
+    private final long accepted;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a {@code SearchStatistics} object.
+     *
+     * @param candidates the number of candidate labyrinths that were examined
+     * @param accepted the number of candidates that had a start in the requested band
+     * @param elapsedNanos the duration of the search in nanoseconds
+     */
+    public SearchStatistics(long candidates, long accepted, long elapsedNanos) {
+        this.candidates = candidates;
+        this.accepted = accepted;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * {@return the number of candidate labyrinths that were examined}
+     */
+    public long getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * {@return the number of candidates that had a start in the requested band}
+     */
+    public long getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * {@return the duration of the search in nanoseconds}
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * {@return the number of candidates examined per second}
+     */
+    public double getCandidatesPerSecond() {
+        return elapsedNanos == 0 ? 0 : candidates * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * {@return the fraction of the candidates that were accepted}
+     */
+    public double getAcceptanceRate() {
+        return candidates == 0 ? 0 : (double) accepted / candidates;
+    }
+
+    /**
+     * {@return the string representation of the {@code SearchStatistics} object}
+     */
+    @Override
+    public String toString() {
+        return String.format("%d candidates, %d accepted (%.2f%%), %.0f candidates/s",
+                candidates, accepted, getAcceptanceRate() * 100, getCandidatesPerSecond());
+    }
+}
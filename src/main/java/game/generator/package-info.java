@@ -0,0 +1,4 @@
+/**
+ * This package contains the procedural generation of labyrinth boards.
+ */
+package game.generator;
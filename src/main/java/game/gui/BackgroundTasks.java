@@ -0,0 +1,65 @@
+package game.gui;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import org.tinylog.Logger;
+
+import java.net.URL;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs disk and FXML work on a background thread so that the JavaFX application thread only updates
+ * the scene. The tasks run one at a time in the order they were submitted, so a result that is stored
+ * before the leaderboard is loaded is part of it.
+ */
+final class BackgroundTasks {
+    /**
+     * Runs the callbacks of a future on the JavaFX application thread.
+     */
+    static final Executor FX_THREAD = Platform::runLater;
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "gui-background");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private BackgroundTasks() {
+    }
+
+    static <T> CompletableFuture<T> supply(Callable<T> task) {
+        var future = new CompletableFuture<T>();
+        EXECUTOR.execute(() -> {
+            try {
+                future.complete(task.call());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    static CompletableFuture<Parent> load(URL location) {
+        return supply(() -> FXMLLoader.load(location));
+    }
+
+    /**
+     * Waits for the submitted tasks to finish, and accepts no new ones.
+     */
+    static void shutdown() {
+        EXECUTOR.shutdown();
+        try {
+            if (!EXECUTOR.awaitTermination(10, TimeUnit.SECONDS)) {
+                Logger.warn("Background tasks did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
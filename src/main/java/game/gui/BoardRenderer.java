@@ -0,0 +1,37 @@
+package game.gui;
+
+import game.state.Board;
+import javafx.scene.Node;
+
+/**
+ * Draws a board and keeps the drawing up to date with the moves of the ball.
+ */
+interface BoardRenderer {
+
+    /**
+     * {@return the node the board is drawn into}
+     */
+    Node getNode();
+
+    /**
+     * Draws a new board, replacing the previous one.
+     *
+     * @param board the board to be drawn
+     */
+    void setBoard(Board board);
+
+    /**
+     * Takes the new position of the ball after a move. The ball stays drawn on its previous square
+     * until {@link #animate(double)} is called.
+     *
+     * @param board the board that is drawn
+     */
+    void update(Board board);
+
+    /**
+     * Draws the ball on its way from its previous square to its current one.
+     *
+     * @param progress the part of the way covered, from 0 to 1
+     */
+    void animate(double progress);
+}
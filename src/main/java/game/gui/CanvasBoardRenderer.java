@@ -0,0 +1,282 @@
+package game.gui;
+
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import game.state.WallGrid;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Draws a board onto a single {@link Canvas}, which scales to boards far too large for one node per
+ * square. Only the squares inside the viewport are drawn, a move repaints only the squares the ball
+ * leaves and enters, and the view can be zoomed with the mouse wheel and panned by dragging. When a
+ * square is smaller than a few pixels, the walls are drawn from an image of the whole board with one
+ * pixel per square instead. A frame of a slide repaints only the squares under the ball before and
+ * after the frame.
+ */
+class CanvasBoardRenderer implements BoardRenderer {
+    private static final double VIEWPORT_SIZE = 500;
+    private static final double MIN_DETAILED_SCALE = 4;
+    private static final double MAX_SCALE = 100;
+    private static final double ZOOM_FACTOR = 1.25;
+    private static final Color BACKGROUND = Color.WHITE;
+    private static final Color WALL = Color.BLACK;
+    private static final Color BALL = Color.BLUE;
+    private static final Color GOAL = Color.LIMEGREEN;
+    private static final int OVERVIEW_WALL = 0xFF404040;
+    private static final int OVERVIEW_EMPTY = 0xFFFFFFFF;
+
+    private final Pane pane = new Pane();
+    private final Canvas canvas = new Canvas();
+    private WallGrid walls;
+    private int size;
+    private int goalCell;
+    private int ballCell;
+    private int previousBallCell;
+    private double ballRow;
+    private double ballCol;
+    private double scale;
+    private double offsetX;
+    private double offsetY;
+    private double dragX;
+    private double dragY;
+    private WritableImage overview;
+
+    CanvasBoardRenderer() {
+        pane.setPrefSize(VIEWPORT_SIZE, VIEWPORT_SIZE);
+        pane.setFocusTraversable(true);
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(pane.widthProperty());
+        clip.heightProperty().bind(pane.heightProperty());
+        pane.setClip(clip);
+        pane.getChildren().add(canvas);
+        canvas.widthProperty().bind(pane.widthProperty());
+        canvas.heightProperty().bind(pane.heightProperty());
+        canvas.widthProperty().addListener(observable -> repaint());
+        canvas.heightProperty().addListener(observable -> repaint());
+        pane.setOnScroll(event -> zoom(event.getDeltaY() > 0 ? ZOOM_FACTOR : 1 / ZOOM_FACTOR,
+                event.getX(), event.getY()));
+        pane.setOnMousePressed(event -> {
+            dragX = event.getX();
+            dragY = event.getY();
+            pane.requestFocus();
+        });
+        pane.setOnMouseDragged(event -> {
+            offsetX += dragX - event.getX();
+            offsetY += dragY - event.getY();
+            dragX = event.getX();
+            dragY = event.getY();
+            repaint();
+        });
+    }
+
+    @Override
+    public Node getNode() {
+        return pane;
+    }
+
+    @Override
+    public void setBoard(Board board) {
+        walls = board.getWalls();
+        size = board.getSize();
+        goalCell = cellOf(board.getGoal());
+        ballCell = cellOf(board.getBall());
+        previousBallCell = ballCell;
+        ballRow = ballCell / size;
+        ballCol = ballCell % size;
+        overview = null;
+        scale = Math.min(MAX_SCALE, viewportSize() / size);
+        offsetX = 0;
+        offsetY = 0;
+        repaint();
+    }
+
+    @Override
+    public void update(Board board) {
+        int cell = cellOf(board.getBall());
+        if (cell == ballCell) {
+            return;
+        }
+        previousBallCell = ballCell;
+        ballCell = cell;
+        if (!isVisible(cell)) {
+            centerOn(cell);
+            repaint();
+        }
+    }
+
+    @Override
+    public void animate(double progress) {
+        double fromRow = previousBallCell / size;
+        double fromCol = previousBallCell % size;
+        double row = fromRow + (ballCell / size - fromRow) * progress;
+        double col = fromCol + (ballCell % size - fromCol) * progress;
+        if (scale < MIN_DETAILED_SCALE) {
+            ballRow = row;
+            ballCol = col;
+            repaint();
+            return;
+        }
+        int rowFrom = (int) Math.floor(Math.min(row, ballRow));
+        int rowTo = (int) Math.ceil(Math.max(row, ballRow));
+        int colFrom = (int) Math.floor(Math.min(col, ballCol));
+        int colTo = (int) Math.ceil(Math.max(col, ballCol));
+        ballRow = row;
+        ballCol = col;
+        rowFrom = Math.max(rowFrom, firstVisible(offsetY));
+        rowTo = Math.min(rowTo, lastVisible(offsetY, canvas.getHeight()));
+        colFrom = Math.max(colFrom, firstVisible(offsetX));
+        colTo = Math.min(colTo, lastVisible(offsetX, canvas.getWidth()));
+        if (rowFrom <= rowTo && colFrom <= colTo) {
+            repaintRegion(rowFrom, rowTo, colFrom, colTo);
+        }
+    }
+
+    private void zoom(double factor, double x, double y) {
+        if (walls == null) {
+            return;
+        }
+        double minScale = viewportSize() / size / 2;
+        double newScale = Math.max(minScale, Math.min(MAX_SCALE, scale * factor));
+        // Keeps the point under the mouse in place.
+        offsetX = (offsetX + x) / scale * newScale - x;
+        offsetY = (offsetY + y) / scale * newScale - y;
+        scale = newScale;
+        repaint();
+    }
+
+    private void centerOn(int cell) {
+        offsetX = (cell % size + 0.5) * scale - canvas.getWidth() / 2;
+        offsetY = (cell / size + 0.5) * scale - canvas.getHeight() / 2;
+    }
+
+    private boolean isVisible(int cell) {
+        double x = cell % size * scale - offsetX;
+        double y = cell / size * scale - offsetY;
+        return x >= 0 && y >= 0 && x + scale <= canvas.getWidth() && y + scale <= canvas.getHeight();
+    }
+
+    private void repaint() {
+        if (walls == null) {
+            return;
+        }
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (scale < MIN_DETAILED_SCALE) {
+            paintOverview(gc);
+        } else {
+            paintCells(gc, firstVisible(offsetY), lastVisible(offsetY, canvas.getHeight()),
+                    firstVisible(offsetX), lastVisible(offsetX, canvas.getWidth()));
+        }
+    }
+
+    private void repaintRegion(int rowFrom, int rowTo, int colFrom, int colTo) {
+        double x = colFrom * scale - offsetX;
+        double y = rowFrom * scale - offsetY;
+        double width = (colTo - colFrom + 1) * scale;
+        double height = (rowTo - rowFrom + 1) * scale;
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, width, height);
+        gc.clip();
+        gc.setFill(BACKGROUND);
+        gc.fillRect(x, y, width, height);
+        // The walls of the neighbours reach into the region.
+        paintCells(gc, Math.max(rowFrom - 1, 0), Math.min(rowTo + 1, size - 1),
+                Math.max(colFrom - 1, 0), Math.min(colTo + 1, size - 1));
+        gc.restore();
+    }
+
+    private int firstVisible(double offset) {
+        return Math.max(0, (int) Math.floor(offset / scale));
+    }
+
+    private int lastVisible(double offset, double length) {
+        return Math.min(size - 1, (int) Math.ceil((offset + length) / scale));
+    }
+
+    private void paintCells(GraphicsContext gc, int rowFrom, int rowTo, int colFrom, int colTo) {
+        paintMarker(gc, goalCell / size, goalCell % size, GOAL, rowFrom, rowTo, colFrom, colTo);
+        gc.setStroke(WALL);
+        gc.setLineWidth(Math.max(1, scale / 10));
+        for (int row = rowFrom; row <= rowTo; row++) {
+            double y = row * scale - offsetY;
+            for (int col = colFrom; col <= colTo; col++) {
+                int mask = walls.getWalls(row * size + col);
+                if (mask == 0) {
+                    continue;
+                }
+                double x = col * scale - offsetX;
+                if ((mask & Direction.UP.getMask()) != 0) {
+                    gc.strokeLine(x, y, x + scale, y);
+                }
+                if ((mask & Direction.RIGHT.getMask()) != 0) {
+                    gc.strokeLine(x + scale, y, x + scale, y + scale);
+                }
+                if ((mask & Direction.DOWN.getMask()) != 0) {
+                    gc.strokeLine(x, y + scale, x + scale, y + scale);
+                }
+                if ((mask & Direction.LEFT.getMask()) != 0) {
+                    gc.strokeLine(x, y, x, y + scale);
+                }
+            }
+        }
+        paintMarker(gc, ballRow, ballCol, BALL, rowFrom, rowTo, colFrom, colTo);
+    }
+
+    private void paintMarker(GraphicsContext gc, double row, double col, Color color, int rowFrom, int rowTo,
+                             int colFrom, int colTo) {
+        if (row + 1 <= rowFrom || row > rowTo || col + 1 <= colFrom || col > colTo) {
+            return;
+        }
+        double inset = scale * 0.2;
+        gc.setFill(color);
+        gc.fillOval(col * scale - offsetX + inset, row * scale - offsetY + inset,
+                scale - 2 * inset, scale - 2 * inset);
+    }
+
+    private void paintOverview(GraphicsContext gc) {
+        gc.setImageSmoothing(false);
+        gc.drawImage(overview(), 0, 0, size, size, -offsetX, -offsetY, size * scale, size * scale);
+        // The markers would vanish at this scale, so they keep a minimal size.
+        double markerSize = Math.max(MIN_DETAILED_SCALE, scale);
+        gc.setFill(GOAL);
+        gc.fillOval((goalCell % size + 0.5) * scale - offsetX - markerSize / 2,
+                (goalCell / size + 0.5) * scale - offsetY - markerSize / 2, markerSize, markerSize);
+        gc.setFill(BALL);
+        gc.fillOval((ballCol + 0.5) * scale - offsetX - markerSize / 2,
+                (ballRow + 0.5) * scale - offsetY - markerSize / 2, markerSize, markerSize);
+    }
+
+    private WritableImage overview() {
+        if (overview == null) {
+            int[] pixels = new int[walls.getCellCount()];
+            for (int cell = 0; cell < pixels.length; cell++) {
+                pixels[cell] = walls.getWalls(cell) == 0 ? OVERVIEW_EMPTY : OVERVIEW_WALL;
+            }
+            overview = new WritableImage(size, size);
+            overview.getPixelWriter().setPixels(0, 0, size, size, PixelFormat.getIntArgbInstance(), pixels, 0,
+                    size);
+        }
+        return overview;
+    }
+
+    private double viewportSize() {
+        double width = canvas.getWidth() > 0 ? canvas.getWidth() : VIEWPORT_SIZE;
+        double height = canvas.getHeight() > 0 ? canvas.getHeight() : VIEWPORT_SIZE;
+        return Math.min(width, height);
+    }
+
+    private int cellOf(Position position) {
+        return walls.cellOf(position.row(), position.col());
+    }
+}
@@ -1,23 +1,44 @@
 package game.gui;
 
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
-
-import java.io.IOException;
+import org.tinylog.Logger;
 
 public class GameApplication extends Application {
 
+    private static GameOptions options = GameOptions.DEFAULT;
+
+    static GameOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    public void start(Stage stage) {
+        try {
+            options = GameOptions.of(getParameters().getNamed());
+        } catch (IllegalArgumentException e) {
+            Logger.error("Invalid option, using the defaults: " + e.getMessage());
+        }
+        BackgroundTasks.load(getClass().getResource("/gui.fxml"))
+                .thenAcceptAsync(root -> {
+                    stage.setTitle("JavaFX Labyrinth Game");
+                    Scene scene = new Scene(root);
+                    stage.setScene(scene);
+                    stage.setResizable(false);
+                    stage.show();
+                }, BackgroundTasks.FX_THREAD)
+                .exceptionally(e -> {
+                    Logger.error("Error while loading the game: " + e.getMessage());
+                    Platform.exit();
+                    return null;
+                });
+    }
+
     @Override
-    public void start(Stage stage) throws IOException {
-        Parent root = FXMLLoader.load(getClass().getResource("/gui.fxml"));
-        stage.setTitle("JavaFX Labyrinth Game");
-        Scene scene = new Scene(root);
-        stage.setScene(scene);
-        stage.setResizable(false);
-        stage.show();
+    public void stop() {
+        BackgroundTasks.shutdown();
     }
 }
 
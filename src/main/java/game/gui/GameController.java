@@ -2,7 +2,6 @@ package game.gui;
 
 import game.result.GameResult;
 import game.result.GameResultManager;
-import game.result.JsonGameResultManager;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -11,35 +10,41 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
+import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
-import javafx.scene.layout.StackPane;
 import game.state.Board;
 import game.state.Direction;
 import game.state.Position;
-import game.state.Square;
-import javafx.scene.shape.Circle;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import org.tinylog.Logger;
-import java.io.IOException;
 import java.net.URL;
-import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 public class GameController implements Initializable {
+    @FXML
+    private BorderPane root;
     @FXML
     private GridPane boardGrid;
     private Board board;
     private String playerName;
     @FXML
     private Text welcomeText;
+    @FXML
+    private ProgressIndicator progress;
+    private BoardRenderer renderer;
+    private SlideAnimator animator;
+    private int backgroundTasks = 0;
 
-    private final GameResultManager gameResult = new JsonGameResultManager(Path.of("results.json"));
+    private final GameResultManager gameResult = Results.manager();
 
     public String getPlayerName() {
         return playerName;
@@ -47,12 +52,18 @@ public class GameController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        initializePlayer();
         Logger.debug("Setting up the board");
+        renderer = GameApplication.getOptions().createRenderer(boardGrid);
+        root.setCenter(renderer.getNode());
+        animator = new SlideAnimator(renderer, this::move, () -> Platform.runLater(this::handleGameOver));
         setupBoard();
         updateBoardView();
         addKeyListeners();
-        boardGrid.requestFocus();
+        // The view may be loaded in the background, but dialogs need the application thread.
+        Platform.runLater(() -> {
+            initializePlayer();
+            renderer.getNode().requestFocus();
+        });
     }
 
     private void initializePlayer() {
@@ -77,99 +88,18 @@ public class GameController implements Initializable {
     }
 
     private void setupBoard() {
-        board = new Board(new Position(1, 4));
-        int size = board.getSize();
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                Square square = board.getSquare(new Position(row, col));
-                StackPane stackPane = createStackPane(square);
-                boardGrid.add(stackPane, col, row);
-            }
-        }
-    }
-
-    private StackPane createStackPane(Square square) {
-        StackPane stackPane = new StackPane();
-        if (square.hasWall(Direction.UP)) {
-            stackPane.getStyleClass().add("top-wall");
-        }
-        if (square.hasWall(Direction.RIGHT)) {
-            stackPane.getStyleClass().add("right-wall");
-        }
-        if (square.hasWall(Direction.DOWN)) {
-            stackPane.getStyleClass().add("bottom-wall");
-        }
-        if (square.hasWall(Direction.LEFT)) {
-            stackPane.getStyleClass().add("left-wall");
-        }
-        if (square.hasWall(Direction.DOWN) && square.hasWall(Direction.UP)) {
-            stackPane.getStyleClass().add("top-bottom-wall");
-        }
-        if (square.hasWall(Direction.LEFT) && square.hasWall(Direction.DOWN)) {
-            stackPane.getStyleClass().add("left-bottom-wall");
-        }
-        if (square.hasWall(Direction.UP) && square.hasWall(Direction.RIGHT)) {
-            stackPane.getStyleClass().add("top-right-wall");
-        }
-        if (square.hasWall(Direction.RIGHT) && square.hasWall(Direction.LEFT)) {
-            stackPane.getStyleClass().add("right-left-wall");
-        }
-        if (square.hasWall(Direction.LEFT) && square.hasWall(Direction.UP)) {
-            stackPane.getStyleClass().add("top-left-wall");
-        }
-        if (square.hasWall(Direction.RIGHT) && square.hasWall(Direction.DOWN)) {
-            stackPane.getStyleClass().add("right-bottom-wall");
-        }
-        if (square.hasWall(Direction.LEFT) && square.hasWall(Direction.DOWN) && square.hasWall(Direction.RIGHT)) {
-            stackPane.getStyleClass().add("left-bottom-right-wall");
-        }
-        if (square.hasWall(Direction.LEFT) && square.hasWall(Direction.UP) && square.hasWall(Direction.RIGHT)) {
-            stackPane.getStyleClass().add("left-top-right-wall");
-        }
-        if (square.hasWall(Direction.UP) && square.hasWall(Direction.RIGHT) && square.hasWall(Direction.DOWN)) {
-            stackPane.getStyleClass().add("top-right-bottom-wall");
-        }
-        if (square.hasWall(Direction.UP) && square.hasWall(Direction.LEFT) && square.hasWall(Direction.DOWN)) {
-            stackPane.getStyleClass().add("top-left-bottom-wall");
-        }
-        return stackPane;
+        animator.stop();
+        board = GameApplication.getOptions().createBoard();
+        renderer.setBoard(board);
     }
 
     private void updateBoardView() {
-        int size = board.getSize();
-        Position goalPosition = board.getGoal();
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                StackPane stackPane = (StackPane) boardGrid.getChildren().get(row * size + col);
-                stackPane.getChildren().clear();
-                Position position = new Position(row, col);
-                if (board.getBall().equals(position)) {
-                    Circle ball = createBall();
-                    stackPane.getChildren().add(ball);
-                }
-                if (goalPosition.equals(position)) {
-                    Text goalText = createGoalText();
-                    stackPane.getChildren().add(goalText);
-                }
-            }
-        }
-    }
-
-    private Circle createBall() {
-        Circle ball = new Circle(20);
-        ball.getStyleClass().add("ball");
-        return ball;
-    }
-
-    private Text createGoalText() {
-        Text goalText = new Text("CÉL");
-        goalText.getStyleClass().add("goal");
-        return goalText;
+        renderer.update(board);
     }
 
     private void addKeyListeners() {
-        boardGrid.setFocusTraversable(true);
-        boardGrid.setOnKeyPressed(event -> {
+        renderer.getNode().setFocusTraversable(true);
+        renderer.getNode().setOnKeyPressed(event -> {
             KeyCombination restartKeyCombination = new KeyCodeCombination(KeyCode.R, KeyCombination.CONTROL_DOWN);
             KeyCombination quitKeyCombination = new KeyCodeCombination(KeyCode.Q, KeyCombination.CONTROL_DOWN);
             if (restartKeyCombination.match(event)) {
@@ -201,22 +131,29 @@ public class GameController implements Initializable {
         setupBoard();
         updateBoardView();
         addKeyListeners();
-        boardGrid.requestFocus();
+        renderer.getNode().requestFocus();
     }
 
     private void performMove(Direction direction) {
-        if (board.canMove(direction)) {
-            board.move(direction);
-            Logger.debug("Move performed in direction: " + direction);
-            updateBoardView();
+        animator.request(direction);
+    }
+
+    private int move(Direction direction) {
+        if (!board.canMove(direction)) {
+            return 0;
         }
-        handleGameOver();
+        Position from = board.getBall();
+        board.move(direction);
+        Logger.debug("Move performed in direction: " + direction);
+        updateBoardView();
+        Position to = board.getBall();
+        return Math.abs(to.row() - from.row()) + Math.abs(to.col() - from.col());
     }
 
     private void handleGameOver() {
         if (board.isGameOver()) {
-            showCongratulationsAlert();
             storeToLeaderboard();
+            showCongratulationsAlert();
         }
     }
 
@@ -231,7 +168,6 @@ public class GameController implements Initializable {
         Optional<ButtonType> result = alert.showAndWait();
         if (result.isPresent() && result.get() == leaderboardButton) {
             Logger.debug("Leaderboard button clicked");
-            storeToLeaderboard();
             switchToLeaderboardScene();
         } else {
             Logger.debug("Close button clicked");
@@ -242,27 +178,42 @@ public class GameController implements Initializable {
 
     private void switchToLeaderboardScene() {
         Logger.debug("Switching to leaderboard scene");
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/table.fxml"));
-            Parent root = loader.load();
-            Stage stage = new Stage();
-            stage.setScene(new Scene(root));
-            stage.show();
-            Stage currentStage = (Stage) boardGrid.getScene().getWindow();
-            currentStage.close();
-        } catch (IOException e) {
-            Logger.error("Error while switching to leaderboard scene: " + e.getMessage());
-            e.printStackTrace();
-        }
+        inBackground(() -> FXMLLoader.<Parent>load(getClass().getResource("/table.fxml")))
+                .thenAcceptAsync(table -> {
+                    Stage stage = new Stage();
+                    stage.setScene(new Scene(table));
+                    stage.show();
+                    Stage currentStage = (Stage) root.getScene().getWindow();
+                    currentStage.close();
+                }, BackgroundTasks.FX_THREAD)
+                .exceptionally(e -> {
+                    Logger.error("Error while switching to leaderboard scene: " + e.getMessage());
+                    return null;
+                });
     }
 
     private void storeToLeaderboard() {
-        try {
-            gameResult.add(addGameResult());
-            Logger.info("Data stored to Leaderboard");
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        GameResult result = addGameResult();
+        inBackground(() -> {
+            gameResult.add(result);
+            return null;
+        }).whenComplete((ignored, e) -> {
+            if (e == null) {
+                Logger.info("Data stored to Leaderboard");
+            } else {
+                Logger.error("Error while storing the result: " + e.getMessage());
+            }
+        });
+    }
+
+    private <T> CompletableFuture<T> inBackground(Callable<T> task) {
+        backgroundTasks++;
+        progress.setVisible(true);
+        return BackgroundTasks.supply(task).whenCompleteAsync((value, e) -> {
+            if (--backgroundTasks == 0) {
+                progress.setVisible(false);
+            }
+        }, BackgroundTasks.FX_THREAD);
     }
 
     private GameResult addGameResult() {
@@ -0,0 +1,66 @@
+package game.gui;
+
+import game.generator.RandomLabyrinthGenerator;
+import game.state.Board;
+import game.state.Position;
+import javafx.scene.layout.GridPane;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The options the game is started with, given as {@code --renderer=grid|canvas}, {@code --size=<n>}
+ * and {@code --seed=<n>}. Without a size the original 7x7 labyrinth is played, otherwise a random
+ * labyrinth of the given size is generated from the seed.
+ *
+ * @param renderer the way the board is drawn
+ * @param size the number of rows and columns of a generated labyrinth, or 0 for the original one
+ * @param seed the seed of the generated labyrinth
+ */
+record GameOptions(Renderer renderer, int size, long seed) {
+
+    /**
+     * The ways the board can be drawn.
+     */
+    enum Renderer {
+        /**
+         * One styled node per square, see {@link GridBoardRenderer}.
+         */
+        GRID,
+        /**
+         * A single canvas, see {@link CanvasBoardRenderer}.
+         */
+        CANVAS
+    }
+
+    static final GameOptions DEFAULT = new GameOptions(Renderer.GRID, 0, 0);
+
+    /**
+     * Reads the options from the named parameters of the application.
+     *
+     * @param named the named parameters
+     * @return the options
+     * @throws IllegalArgumentException when a parameter has an invalid value
+     */
+    static GameOptions of(Map<String, String> named) throws IllegalArgumentException {
+        Renderer renderer = Renderer.valueOf(
+                named.getOrDefault("renderer", DEFAULT.renderer().name()).toUpperCase(Locale.ROOT));
+        int size = Integer.parseInt(named.getOrDefault("size", String.valueOf(DEFAULT.size())));
+        long seed = Long.parseLong(named.getOrDefault("seed", String.valueOf(System.nanoTime())));
+        if (size != 0 && size < 2) {
+            throw new IllegalArgumentException("Size must be at least 2: " + size);
+        }
+        return new GameOptions(renderer, size, seed);
+    }
+
+    Board createBoard() {
+        if (size == 0) {
+            return new Board(Position.of(1, 4));
+        }
+        return new RandomLabyrinthGenerator().generate(size, seed);
+    }
+
+    BoardRenderer createRenderer(GridPane grid) {
+        return renderer == Renderer.GRID ? new GridBoardRenderer(grid) : new CanvasBoardRenderer();
+    }
+}
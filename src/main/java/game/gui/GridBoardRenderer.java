@@ -0,0 +1,150 @@
+package game.gui;
+
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import game.state.WallGrid;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Circle;
+import javafx.scene.text.Text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws a board into a {@link GridPane} with one {@link StackPane} per square. The ball and the goal
+ * are single nodes that are moved between the squares, so a move updates only the squares the ball
+ * leaves and enters. During a slide the ball sits in the square it enters and is shifted back
+ * towards the one it left.
+ */
+class GridBoardRenderer implements BoardRenderer {
+    private static final int UP = Direction.UP.getMask();
+    private static final int RIGHT = Direction.RIGHT.getMask();
+    private static final int DOWN = Direction.DOWN.getMask();
+    private static final int LEFT = Direction.LEFT.getMask();
+
+    private static final WallStyle[] WALL_STYLES = {
+        new WallStyle(UP, "top-wall"),
+        new WallStyle(RIGHT, "right-wall"),
+        new WallStyle(DOWN, "bottom-wall"),
+        new WallStyle(LEFT, "left-wall"),
+        new WallStyle(DOWN | UP, "top-bottom-wall"),
+        new WallStyle(LEFT | DOWN, "left-bottom-wall"),
+        new WallStyle(UP | RIGHT, "top-right-wall"),
+        new WallStyle(RIGHT | LEFT, "right-left-wall"),
+        new WallStyle(LEFT | UP, "top-left-wall"),
+        new WallStyle(RIGHT | DOWN, "right-bottom-wall"),
+        new WallStyle(LEFT | DOWN | RIGHT, "left-bottom-right-wall"),
+        new WallStyle(LEFT | UP | RIGHT, "left-top-right-wall"),
+        new WallStyle(UP | RIGHT | DOWN, "top-right-bottom-wall"),
+        new WallStyle(UP | LEFT | DOWN, "top-left-bottom-wall"),
+    };
+
+    /**
+     * The style classes of a square, indexed by the mask of its walls.
+     */
+    private static final List<List<String>> STYLE_CLASSES = new ArrayList<>();
+
+    static {
+        for (int mask = 0; mask < 16; mask++) {
+            var styleClasses = new ArrayList<String>();
+            for (WallStyle style : WALL_STYLES) {
+                if ((mask & style.walls()) == style.walls()) {
+                    styleClasses.add(style.styleClass());
+                }
+            }
+            STYLE_CLASSES.add(List.copyOf(styleClasses));
+        }
+    }
+
+    private final GridPane grid;
+    private final Circle ball = createBall();
+    private final Text goal = createGoalText();
+    private StackPane[] cells = new StackPane[0];
+    private WallGrid walls;
+    private int ballCell;
+    private double slideX;
+    private double slideY;
+
+    GridBoardRenderer(GridPane grid) {
+        this.grid = grid;
+    }
+
+    @Override
+    public Node getNode() {
+        return grid;
+    }
+
+    /**
+     * Replaces the squares of the grid with those of a new board.
+     *
+     * @param board the board to be drawn
+     */
+    @Override
+    public void setBoard(Board board) {
+        grid.getChildren().removeAll(cells);
+        walls = board.getWalls();
+        int size = board.getSize();
+        cells = new StackPane[walls.getCellCount()];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int cell = walls.cellOf(row, col);
+                StackPane stackPane = new StackPane();
+                stackPane.getStyleClass().addAll(STYLE_CLASSES.get(walls.getWalls(cell)));
+                cells[cell] = stackPane;
+                grid.add(stackPane, col, row);
+            }
+        }
+        Position goalPosition = board.getGoal();
+        cells[walls.cellOf(goalPosition.row(), goalPosition.col())].getChildren().add(goal);
+        ballCell = cellOf(board.getBall());
+        cells[ballCell].getChildren().add(0, ball);
+        slideX = 0;
+        slideY = 0;
+        animate(1);
+    }
+
+    @Override
+    public void update(Board board) {
+        int cell = cellOf(board.getBall());
+        if (cell != ballCell) {
+            StackPane from = cells[ballCell];
+            StackPane to = cells[cell];
+            slideX = from.getLayoutX() - to.getLayoutX();
+            slideY = from.getLayoutY() - to.getLayoutY();
+            from.getChildren().remove(ball);
+            to.getChildren().add(0, ball);
+            // The ball passes over the squares in between.
+            to.toFront();
+            ballCell = cell;
+            animate(0);
+        }
+    }
+
+    @Override
+    public void animate(double progress) {
+        ball.setTranslateX(slideX * (1 - progress));
+        ball.setTranslateY(slideY * (1 - progress));
+    }
+
+    private int cellOf(Position position) {
+        return walls.cellOf(position.row(), position.col());
+    }
+
+    private static Circle createBall() {
+        Circle ball = new Circle(20);
+        ball.getStyleClass().add("ball");
+        return ball;
+    }
+
+    private static Text createGoalText() {
+        Text goalText = new Text("CÉL");
+        goalText.getStyleClass().add("goal");
+        return goalText;
+    }
+
+    private record WallStyle(int walls, String styleClass) {
+    }
+}
@@ -0,0 +1,150 @@
+package game.gui;
+
+import game.result.GameResult;
+import game.result.GameResultManager;
+import game.result.ResultQuery;
+import javafx.collections.ObservableListBase;
+import org.tinylog.Logger;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A read-only list of the results that match the filters of a query, in the order of the query, that
+ * loads its elements a page at a time when they are first asked for. Pages are loaded in the
+ * background; until a page arrives its elements are {@code null}, and its arrival is reported as an
+ * update of those elements. Only the most recently used pages are kept, together with the formatted
+ * creation times of their results, so a {@code TableView} can scroll through any number of results.
+ * The list must be used on the thread its callbacks run on, which is the JavaFX application thread
+ * unless a test chooses otherwise.
+ */
+class PagedResultList extends ObservableListBase<GameResult> {
+    private static final DateTimeFormatter CREATED_FORMATTER = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG);
+
+    private static final int PAGE_SIZE = 100;
+    private static final int CACHED_PAGES = 16;
+
+    private final GameResultManager manager;
+    private final ResultQuery query;
+    private final int size;
+    private final Loader loader;
+    private final Executor callbacks;
+    private final Set<Integer> loading = new HashSet<>();
+    private final Map<Integer, Page> pages = new LinkedHashMap<>(CACHED_PAGES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Page> eldest) {
+            return size() > CACHED_PAGES;
+        }
+    };
+
+    /**
+     * Creates a list that loads its pages with {@link BackgroundTasks}.
+     *
+     * @param manager the manager the results are read from
+     * @param query the filters and the order of the results, and the offset of the first element
+     * @param size the number of elements, usually counted with {@link GameResultManager#count(ResultQuery)}
+     */
+    PagedResultList(GameResultManager manager, ResultQuery query, int size) {
+        this(manager, query, size, BackgroundTasks::supply, BackgroundTasks.FX_THREAD);
+    }
+
+    PagedResultList(GameResultManager manager, ResultQuery query, int size, Loader loader, Executor callbacks) {
+        this.manager = manager;
+        this.query = query;
+        this.size = size;
+        this.loader = loader;
+        this.callbacks = callbacks;
+    }
+
+    @Override
+    public GameResult get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Result index out of range: " + index);
+        }
+        int page = index / PAGE_SIZE;
+        Page results = pages.get(page);
+        if (results == null) {
+            load(page);
+            results = pages.get(page);
+        }
+        int offset = index % PAGE_SIZE;
+        // A page still loading, a page that failed to load, or results removed since they were
+        // counted leave gaps.
+        return results != null && offset < results.results().size() ? results.results().get(offset) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return the creation time of a result of the list, formatted when its page was loaded, or now if
+     * its page is no longer cached}
+     *
+     * @param result a result of the list
+     */
+    String formatCreated(GameResult result) {
+        for (Page page : pages.values()) {
+            String created = page.created().get(result);
+            if (created != null) {
+                return created;
+            }
+        }
+        return CREATED_FORMATTER.format(result.getCreated());
+    }
+
+    private void load(int page) {
+        if (!loading.add(page)) {
+            return;
+        }
+        int from = page * PAGE_SIZE;
+        int to = Math.min(from + PAGE_SIZE, size);
+        ResultQuery pageQuery = query.toBuilder()
+                .offset(query.getOffset() + from)
+                .limit(to - from)
+                .build();
+        loader.load(() -> manager.query(pageQuery)).whenCompleteAsync((results, e) -> {
+            loading.remove(page);
+            if (e != null) {
+                Logger.error("Error while loading results {} to {}: {}", pageQuery.getOffset(),
+                        pageQuery.getOffset() + pageQuery.getLimit(), e.getMessage());
+                results = List.of();
+            }
+            var created = new IdentityHashMap<GameResult, String>(results.size() * 2);
+            results.forEach(result -> created.put(result, CREATED_FORMATTER.format(result.getCreated())));
+            pages.put(page, new Page(results, created));
+            beginChange();
+            for (int i = from; i < to; i++) {
+                nextUpdate(i);
+            }
+            endChange();
+        }, callbacks);
+    }
+
+    /**
+     * A cached page, whose formatted creation times are evicted together with its results.
+     *
+     * @param results the results of the page
+     * @param created the formatted creation times of the results
+     */
+    private record Page(List<GameResult> results, Map<GameResult, String> created) {
+    }
+
+    /**
+     * Runs the query of a page in the background.
+     */
+    @FunctionalInterface
+    interface Loader {
+        CompletableFuture<List<GameResult>> load(Callable<List<GameResult>> task);
+    }
+}
@@ -0,0 +1,40 @@
+package game.gui;
+
+import game.result.CachedGameResultManager;
+import game.result.ConcurrentGameResultManager;
+import game.result.GameResultManager;
+import game.result.IndexedGameResultManager;
+import org.tinylog.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Holds the result manager shared by the controllers. The queued results are written when the
+ * application shuts down.
+ */
+final class Results {
+    private static final Path RESULTS_PATH = Path.of("results.json");
+    private static final Path INDEX_PATH = Path.of("results.best.json");
+    private static CachedGameResultManager manager;
+
+    private Results() {
+    }
+
+    static synchronized GameResultManager manager() {
+        if (manager == null) {
+            manager = new CachedGameResultManager(new IndexedGameResultManager(
+                    new ConcurrentGameResultManager(RESULTS_PATH), RESULTS_PATH, INDEX_PATH), RESULTS_PATH);
+            Runtime.getRuntime().addShutdownHook(new Thread(Results::close, "result-flush"));
+        }
+        return manager;
+    }
+
+    private static void close() {
+        try {
+            manager.close();
+        } catch (IOException e) {
+            Logger.error("Failed to store results on shutdown: " + e.getMessage());
+        }
+    }
+}
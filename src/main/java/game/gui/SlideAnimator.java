@@ -0,0 +1,120 @@
+package game.gui;
+
+import game.state.Direction;
+import javafx.animation.AnimationTimer;
+import org.tinylog.Logger;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Animates the slides of the ball with a single {@link AnimationTimer}. A key pressed during a slide
+ * is not queued: only the last one is kept, and it starts the next slide in the same frame the current
+ * one ends. The time the renderer takes in each frame is measured against a budget and logged per
+ * slide.
+ */
+class SlideAnimator {
+    private static final long NANOS_PER_CELL = 40_000_000L;
+    private static final long MAX_SLIDE_NANOS = 300_000_000L;
+    private static final long FRAME_BUDGET_NANOS = 8_000_000L;
+
+    private final BoardRenderer renderer;
+    private final ToIntFunction<Direction> mover;
+    private final Runnable onFinished;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            frame(now);
+        }
+    };
+    private boolean running = false;
+    private Direction pending;
+    private long start;
+    private long duration;
+    private int frames;
+    private int framesOverBudget;
+    private long maxFrameNanos;
+
+    /**
+     * Creates a {@code SlideAnimator} object.
+     *
+     * @param renderer the renderer that draws the ball
+     * @param mover moves the ball on the board and updates the renderer, returning the number of
+     *              cells the ball slid, which is 0 if it could not move
+     * @param onFinished called after a slide and the ones coalesced into it have ended
+     */
+    SlideAnimator(BoardRenderer renderer, ToIntFunction<Direction> mover, Runnable onFinished) {
+        this.renderer = renderer;
+        this.mover = mover;
+        this.onFinished = onFinished;
+    }
+
+    /**
+     * Starts a slide, or keeps the direction for when the running slide ends.
+     *
+     * @param direction the direction of the slide
+     */
+    void request(Direction direction) {
+        if (running) {
+            pending = direction;
+        } else if (!begin(direction)) {
+            onFinished.run();
+        }
+    }
+
+    /**
+     * Stops the running slide and drops the pending one, leaving the ball wherever it is drawn.
+     */
+    void stop() {
+        timer.stop();
+        running = false;
+        pending = null;
+    }
+
+    private boolean begin(Direction direction) {
+        int distance = mover.applyAsInt(direction);
+        if (distance == 0) {
+            return false;
+        }
+        duration = Math.min(MAX_SLIDE_NANOS, distance * NANOS_PER_CELL);
+        start = -1;
+        frames = 0;
+        framesOverBudget = 0;
+        maxFrameNanos = 0;
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+        return true;
+    }
+
+    private void frame(long now) {
+        if (start < 0) {
+            start = now;
+        }
+        double progress = Math.min(1, (double) (now - start) / duration);
+        double eased = 1 - (1 - progress) * (1 - progress);
+        long workStart = System.nanoTime();
+        renderer.animate(eased);
+        long work = System.nanoTime() - workStart;
+        frames++;
+        maxFrameNanos = Math.max(maxFrameNanos, work);
+        if (work > FRAME_BUDGET_NANOS) {
+            framesOverBudget++;
+        }
+        if (progress < 1) {
+            return;
+        }
+        Logger.debug("Slide drawn in {} frames, slowest frame {} µs, {} over budget", frames,
+                maxFrameNanos / 1000, framesOverBudget);
+        Direction next = pending;
+        pending = null;
+        if (next == null || !begin(next)) {
+            timer.stop();
+            running = false;
+            onFinished.run();
+        } else {
+            // The next slide starts from this frame instead of waiting for another pulse.
+            frame(now);
+        }
+    }
+}
@@ -1,27 +1,31 @@
 package game.gui;
 
 import game.result.GameResult;
-import game.result.JsonGameResultManager;
+import game.result.ResultQuery;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.ReadOnlyStringWrapper;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
-import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Pagination;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.stage.Stage;
-import java.io.IOException;
-import java.nio.file.Path;
-import java.time.format.DateTimeFormatter;
-import java.time.format.FormatStyle;
+import org.tinylog.Logger;
 
 public class TableViewController {
 
+    /**
+     * The number of rows on a page of the pagination, which the table loads while scrolling.
+     */
+    private static final int ROWS_PER_PAGE = 1000;
+
+    private static final ResultQuery QUERY = ResultQuery.builder().build();
+
+    @FXML
+    private Pagination pagination;
+
     @FXML
     private TableView<GameResult> tableView;
 
@@ -34,27 +38,52 @@ public class TableViewController {
     @FXML
     private TableColumn<GameResult, String> created;
 
+    private long count;
+
+    private PagedResultList results;
+
     @FXML
-    private void initialize() throws IOException {
-        playerName.setCellValueFactory(new PropertyValueFactory<>("playerName"));
-        steps.setCellValueFactory(new PropertyValueFactory<>("steps"));
-        created.setCellValueFactory(
-                cellData -> {
-                    var dateTime = cellData.getValue().getCreated();
-                    var formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG);
-                    return new ReadOnlyStringWrapper(formatter.format(dateTime));
-                }
-        );
-        ObservableList<GameResult> observableList = FXCollections.observableArrayList();
-        observableList.addAll(new JsonGameResultManager(Path.of("results.json")).getBest(10));
-        tableView.setItems(observableList);
+    private void initialize() {
+        // The cells of a page that is loading or failed to load stay empty.
+        playerName.setCellValueFactory(cellData -> cellData.getValue() == null ? null
+                : new ReadOnlyStringWrapper(cellData.getValue().getPlayerName()));
+        steps.setCellValueFactory(cellData -> cellData.getValue() == null ? null
+                : new ReadOnlyObjectWrapper<>(cellData.getValue().getSteps()));
+        created.setCellValueFactory(cellData -> cellData.getValue() == null ? null
+                : new ReadOnlyStringWrapper(results.formatCreated(cellData.getValue())));
+        // The query has no filters, so the leaderboard index counts the results without reading them.
+        BackgroundTasks.supply(() -> Results.manager().count(QUERY))
+                .thenAcceptAsync(count -> {
+                    this.count = count;
+                    pagination.setPageCount((int) Math.min(Math.max(1, (count + ROWS_PER_PAGE - 1) / ROWS_PER_PAGE),
+                            Integer.MAX_VALUE));
+                    pagination.setPageFactory(this::showPage);
+                }, BackgroundTasks.FX_THREAD)
+                .exceptionally(e -> {
+                    Logger.error("Error while counting the results: " + e.getMessage());
+                    return null;
+                });
+    }
+
+    private TableView<GameResult> showPage(int page) {
+        long offset = (long) page * ROWS_PER_PAGE;
+        results = new PagedResultList(Results.manager(), QUERY.toBuilder().offset((int) offset).build(),
+                (int) Math.max(0, Math.min(ROWS_PER_PAGE, count - offset)));
+        tableView.setItems(results);
+        return tableView;
     }
 
     @FXML
-    private void switchScene(ActionEvent event) throws IOException {
+    private void switchScene(ActionEvent event) {
         Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-        Parent root = FXMLLoader.load(getClass().getResource("/gui.fxml"));
-        stage.setScene(new Scene(root));
-        stage.show();
+        BackgroundTasks.load(getClass().getResource("/gui.fxml"))
+                .thenAcceptAsync(root -> {
+                    stage.setScene(new Scene(root));
+                    stage.show();
+                }, BackgroundTasks.FX_THREAD)
+                .exceptionally(e -> {
+                    Logger.error("Error while switching to the game: " + e.getMessage());
+                    return null;
+                });
     }
 }
\ No newline at end of file
@@ -0,0 +1,340 @@
+package game.result;
+
+import lombok.NonNull;
+import org.tinylog.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stores the results in a file of fixed-width binary records that is read through a
+ * {@link MappedByteBuffer}. A record holds the id of the player name, the number of steps and the
+ * creation time in nanoseconds since the epoch. The player names are interned in a separate file that
+ * holds one name per line, the line number being the id, so line breaks in names are replaced by
+ * spaces. Creation times are read back in UTC. The header of the record file holds a magic number
+ * and the format version; files written before the version was recorded hold 0 there and have the
+ * layout of version 1. Results are added while holding a lock on the record file, and new names get
+ * their ids only after the names file has been read again under that lock, so several managers and
+ * processes can add results to the same files.
+ */
+public class BinaryGameResultManager implements GameResultManager {
+    private static final int MAGIC = 0x4C42_5231;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_SIZE = 16;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path filePath;
+    private final Path namesPath;
+    private ByteBuffer mapped;
+    private List<String> names;
+    private Map<String, Integer> nameIds;
+
+    /**
+     * Creates a {@code BinaryGameResultManager} object. The names are stored in a file next to the
+     * records with the {@code .names} suffix.
+     *
+     * @param filePath the path of the record file
+     */
+    public BinaryGameResultManager(@NonNull Path filePath) {
+        this.filePath = filePath;
+        this.namesPath = filePath.resolveSibling(filePath.getFileName() + ".names");
+    }
+
+    /**
+     * Copies all results of a JSON result file into a binary result file that holds no results yet.
+     * Nothing is copied when the binary file already holds results, so that running the migration
+     * again does not add the results twice.
+     *
+     * @param jsonPath the path of the JSON result file
+     * @param binaryPath the path of the binary record file
+     * @return the number of results copied
+     * @throws IOException if any I/O error occurs
+     */
+    public static int migrate(@NonNull Path jsonPath, @NonNull Path binaryPath) throws IOException {
+        var binary = new BinaryGameResultManager(binaryPath);
+        if (binary.size() > 0) {
+            Logger.warn("Not migrating {}, {} already holds results", jsonPath, binaryPath);
+            return 0;
+        }
+        List<GameResult> results = new JsonGameResultManager(jsonPath).getAll();
+        binary.addAll(results);
+        Logger.info("Migrated {} results from {} to {}", results.size(), jsonPath, binaryPath);
+        return results.size();
+    }
+
+    @Override
+    public synchronized void add(@NonNull GameResult result) throws IOException {
+        addAll(List.of(result));
+    }
+
+    /**
+     * Appends several results with a single write.
+     *
+     * @param results the results to be added
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public synchronized void addAll(@NonNull List<GameResult> results) throws IOException {
+        ReentrantLock lock = LOCKS.computeIfAbsent(filePath.toAbsolutePath().normalize(),
+                path -> new ReentrantLock());
+        lock.lock();
+        try (FileChannel out = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+             FileLock ignored = out.lock()) {
+            // Other managers may have added names since they were read.
+            names = null;
+            ByteBuffer records = ByteBuffer.allocate(results.size() * RECORD_SIZE);
+            for (GameResult result : results) {
+                records.putInt(nameId(result.getPlayerName()))
+                        .putInt(result.getSteps())
+                        .putLong(nanos(result.getCreated().toInstant()));
+            }
+            records.flip();
+            long size = out.size();
+            if (size > 0 && size < HEADER_SIZE) {
+                throw new IOException("Truncated binary result file: " + filePath);
+            }
+            if (size == 0) {
+                out.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip(), 0);
+                size = HEADER_SIZE;
+            }
+            long position = size - (size - HEADER_SIZE) % RECORD_SIZE;
+            while (records.hasRemaining()) {
+                position += out.write(records, position);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public synchronized List<GameResult> getAll() throws IOException {
+        ByteBuffer records = map();
+        int count = count(records);
+        var results = new ArrayList<GameResult>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(read(records, i));
+        }
+        return results;
+    }
+
+    /**
+     * Selects the best results by scanning the steps of the records in place, and decodes only the
+     * records that are returned.
+     *
+     * @param limit the maximal number of results
+     * @return the results with the fewest steps, ties in the order they were added
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public synchronized List<GameResult> getBest(int limit) throws IOException {
+        ByteBuffer records = map();
+        int count = count(records);
+        if (limit <= 0 || count == 0) {
+            return List.of();
+        }
+        var heap = new PriorityQueue<Integer>(Comparator
+                .<Integer>comparingInt(i -> steps(records, i))
+                .thenComparingInt(i -> i)
+                .reversed());
+        for (int i = 0; i < count; i++) {
+            if (heap.size() < limit) {
+                heap.add(i);
+            } else if (steps(records, i) < steps(records, heap.peek())) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+        var best = new GameResult[heap.size()];
+        for (int i = best.length - 1; i >= 0; i--) {
+            best[i] = read(records, heap.poll());
+        }
+        return List.of(best);
+    }
+
+    /**
+     * Selects a page of results. The filters are checked on the records in place, and only the
+     * matching records are decoded.
+     *
+     * @param query the filters, the order and the page
+     * @return the results of the page
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public synchronized List<GameResult> query(@NonNull ResultQuery query) throws IOException {
+        ByteBuffer records = map();
+        var matching = new ArrayList<GameResult>();
+        for (int i : matches(records, query)) {
+            matching.add(read(records, i));
+        }
+        return query.select(matching.stream());
+    }
+
+    @Override
+    public synchronized long count(@NonNull ResultQuery query) throws IOException {
+        return matches(map(), query).length;
+    }
+
+    /**
+     * {@return the number of stored results}
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    public synchronized int size() throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+        return (int) ((Math.max(Files.size(filePath), HEADER_SIZE) - HEADER_SIZE) / RECORD_SIZE);
+    }
+
+    /**
+     * Reads a single result without reading the others.
+     *
+     * @param index the position of the result in the order it was added
+     * @return the result at the given position
+     * @throws IOException if any I/O error occurs
+     * @throws IndexOutOfBoundsException when there is no result at the given position
+     */
+    public synchronized GameResult get(int index) throws IOException, IndexOutOfBoundsException {
+        ByteBuffer records = map();
+        if (index < 0 || index >= count(records)) {
+            throw new IndexOutOfBoundsException("Result index out of range: " + index);
+        }
+        return read(records, index);
+    }
+
+    private ByteBuffer map() throws IOException {
+        if (!Files.exists(filePath)) {
+            return ByteBuffer.allocate(0);
+        }
+        try (FileChannel in = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size > 0 && size < HEADER_SIZE) {
+                throw new IOException("Truncated binary result file: " + filePath);
+            }
+            if (mapped == null || mapped.capacity() != size) {
+                MappedByteBuffer records = in.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                if (size >= HEADER_SIZE && records.getInt(0) != MAGIC) {
+                    throw new IOException("Not a binary result file: " + filePath);
+                }
+                if (size >= HEADER_SIZE && records.getInt(4) > VERSION) {
+                    throw new IOException("Unsupported binary result file version " + records.getInt(4) + ": "
+                            + filePath);
+                }
+                mapped = records;
+            }
+            return mapped;
+        }
+    }
+
+    private int[] matches(ByteBuffer records, ResultQuery query) throws IOException {
+        int count = count(records);
+        int nameId = -1;
+        if (query.getPlayerName() != null) {
+            names();
+            Integer id = nameIds.get(query.getPlayerName());
+            if (id == null) {
+                // The name may have been added by another manager after the names were read.
+                names = null;
+                names();
+                id = nameIds.get(query.getPlayerName());
+            }
+            if (id == null) {
+                return new int[0];
+            }
+            nameId = id;
+        }
+        long from = query.getCreatedFrom() == null ? Long.MIN_VALUE : nanos(query.getCreatedFrom().toInstant());
+        long to = query.getCreatedTo() == null ? Long.MAX_VALUE : nanos(query.getCreatedTo().toInstant());
+        int[] matches = new int[count];
+        int matched = 0;
+        for (int i = 0; i < count; i++) {
+            int offset = HEADER_SIZE + i * RECORD_SIZE;
+            int steps = records.getInt(offset + 4);
+            long created = records.getLong(offset + 8);
+            if (steps >= query.getMinSteps() && steps <= query.getMaxSteps()
+                    && (nameId < 0 || records.getInt(offset) == nameId)
+                    && created >= from && (created < to || query.getCreatedTo() == null)) {
+                matches[matched++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, matched);
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    private static int count(ByteBuffer records) {
+        return Math.max(records.capacity() - HEADER_SIZE, 0) / RECORD_SIZE;
+    }
+
+    private static int steps(ByteBuffer records, int index) {
+        return records.getInt(HEADER_SIZE + index * RECORD_SIZE + 4);
+    }
+
+    private GameResult read(ByteBuffer records, int index) throws IOException {
+        int offset = HEADER_SIZE + index * RECORD_SIZE;
+        long nanos = records.getLong(offset + 8);
+        Instant created = Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+                Math.floorMod(nanos, NANOS_PER_SECOND));
+        int nameId = records.getInt(offset);
+        if (nameId >= names().size()) {
+            // The name was added by another manager after the names were read.
+            names = null;
+        }
+        return GameResult.builder()
+                .playerName(names().get(nameId))
+                .steps(records.getInt(offset + 4))
+                .created(ZonedDateTime.ofInstant(created, ZoneOffset.UTC))
+                .build();
+    }
+
+    private List<String> names() throws IOException {
+        if (names == null) {
+            names = Files.exists(namesPath)
+                    ? new ArrayList<>(Files.readAllLines(namesPath, StandardCharsets.UTF_8))
+                    : new ArrayList<>();
+            nameIds = new HashMap<>();
+            for (int id = 0; id < names.size(); id++) {
+                nameIds.putIfAbsent(names.get(id), id);
+            }
+        }
+        return names;
+    }
+
+    private int nameId(String name) throws IOException {
+        List<String> known = names();
+        String storedName = name.replaceAll("[\r\n]", " ");
+        Integer id = nameIds.get(storedName);
+        if (id == null) {
+            id = known.size();
+            Files.writeString(namesPath, storedName + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            known.add(storedName);
+            nameIds.put(storedName, id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,316 @@
+package game.result;
+
+import lombok.NonNull;
+import org.tinylog.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link GameResultManager} with an in-memory copy of the results and a background writer.
+ * The results are read once and read again only when the modification time or the size of the result
+ * file changes. Added results are handed to the decorated manager on a writer thread through a bounded
+ * queue; {@code add} blocks only while that queue is full. Until they are written, the added results
+ * are kept in memory and merged into every answer, so they are visible immediately. The best results
+ * and the queries without filters are answered by the decorated manager, which can use its own
+ * indexes; the other queries are answered from the copy while it is up to date.
+ */
+public class CachedGameResultManager implements GameResultManager, Closeable {
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private final GameResultManager delegate;
+    private final Path filePath;
+    private final BlockingQueue<GameResult> queue;
+    private final List<GameResult> pending = new ArrayList<>();
+    /**
+     * Held for writing while the writer stores results, adds them to {@link #snapshot} and removes them
+     * from {@link #pending}, so that a reader never sees them in both.
+     */
+    private final ReadWriteLock storage = new ReentrantReadWriteLock();
+    private final Thread writer;
+    /**
+     * The stored results, {@code null} until they are read, replaced while holding a lock of
+     * {@link #storage}.
+     */
+    private volatile Snapshot snapshot;
+    private IOException failure;
+    private boolean closed = false;
+
+    /**
+     * Creates a {@code CachedGameResultManager} object with the default queue capacity.
+     *
+     * @param delegate the manager that stores the results
+     * @param filePath the path of the file the decorated manager stores the results in
+     */
+    public CachedGameResultManager(@NonNull GameResultManager delegate, @NonNull Path filePath) {
+        this(delegate, filePath, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code CachedGameResultManager} object and starts its writer thread.
+     *
+     * @param delegate the manager that stores the results
+     * @param filePath the path of the file the decorated manager stores the results in
+     * @param queueCapacity the number of results that may wait for the writer
+     * @throws IllegalArgumentException when the queue capacity is not positive
+     */
+    public CachedGameResultManager(@NonNull GameResultManager delegate, @NonNull Path filePath, int queueCapacity)
+            throws IllegalArgumentException {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+        }
+        this.delegate = delegate;
+        this.filePath = filePath;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::write, "result-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Adds a result to the pending results and queues it for writing.
+     *
+     * @param result the result to be added
+     * @throws IOException if the manager is closed or the thread is interrupted while the queue is full
+     */
+    @Override
+    public void add(@NonNull GameResult result) throws IOException {
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Result manager is closed");
+            }
+            pending.add(result);
+        }
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            synchronized (this) {
+                pending.remove(result);
+            }
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while queueing a result", e);
+        }
+    }
+
+    @Override
+    public List<GameResult> getAll() throws IOException {
+        storage.readLock().lock();
+        try {
+            var all = new ArrayList<>(stored());
+            all.addAll(pending());
+            return all;
+        } finally {
+            storage.readLock().unlock();
+        }
+    }
+
+    /**
+     * Merges the best results of the decorated manager with the pending results.
+     *
+     * @param limit the maximal number of results
+     * @return the results with the fewest steps, ties in the order they were added
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public List<GameResult> getBest(int limit) throws IOException {
+        if (limit <= 0) {
+            return List.of();
+        }
+        storage.readLock().lock();
+        try {
+            // The stored results were added before the pending ones, so they come first on ties.
+            return Stream.concat(delegate.getBest(limit).stream(), pending().stream())
+                    .sorted(Comparator.comparingInt(GameResult::getSteps))
+                    .limit(limit)
+                    .toList();
+        } finally {
+            storage.readLock().unlock();
+        }
+    }
+
+    /**
+     * Merges the stored results up to the end of the page with the pending results that match the
+     * query. The stored results are taken from the copy if the query has filters and the copy is up
+     * to date, and from the decorated manager otherwise.
+     *
+     * @param query the filters, the order and the page
+     * @return the results of the page
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public List<GameResult> query(@NonNull ResultQuery query) throws IOException {
+        if (query.getLimit() <= 0) {
+            return List.of();
+        }
+        long window = Math.max(query.getOffset(), 0) + (long) query.getLimit();
+        ResultQuery head = query.toBuilder()
+                .offset(0)
+                .limit((int) Math.min(window, Integer.MAX_VALUE))
+                .build();
+        storage.readLock().lock();
+        try {
+            List<GameResult> stored = query.isUnfiltered() ? null : current();
+            return query.select(Stream.concat(stored != null ? stored.stream() : delegate.query(head).stream(),
+                    pending().stream()));
+        } finally {
+            storage.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count(@NonNull ResultQuery query) throws IOException {
+        storage.readLock().lock();
+        try {
+            List<GameResult> stored = query.isUnfiltered() ? null : current();
+            long count = stored != null ? stored.stream().filter(query::matches).count() : delegate.count(query);
+            return count + pending().stream().filter(query::matches).count();
+        } finally {
+            storage.readLock().unlock();
+        }
+    }
+
+    /**
+     * Waits until all queued results are written.
+     *
+     * @throws IOException if writing a result failed since the last flush, or the thread is interrupted
+     */
+    public synchronized void flush() throws IOException {
+        try {
+            while (!pending.isEmpty()) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while flushing results", e);
+        }
+        if (failure != null) {
+            IOException e = failure;
+            failure = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the queued results and stops the writer thread. Results cannot be added afterwards.
+     *
+     * @throws IOException if writing a result failed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            flush();
+        } finally {
+            writer.interrupt();
+        }
+    }
+
+    private synchronized List<GameResult> pending() {
+        return List.copyOf(pending);
+    }
+
+    /**
+     * Returns the stored results, reading them if the file has changed since they were read. Must be
+     * called while holding a lock of {@link #storage}.
+     */
+    private List<GameResult> stored() throws IOException {
+        List<GameResult> stored = current();
+        if (stored != null) {
+            return stored;
+        }
+        Snapshot loaded = delegate.shared(() -> new Snapshot(Stamp.of(filePath), new ArrayList<>(delegate.getAll())));
+        snapshot = loaded;
+        Logger.debug("Loaded {} results from {}", loaded.results().size(), filePath);
+        return loaded.results();
+    }
+
+    /**
+     * Returns the stored results if they have been read and the file has not changed since, or
+     * {@code null}. Must be called while holding a lock of {@link #storage}.
+     */
+    private List<GameResult> current() throws IOException {
+        Snapshot current = snapshot;
+        return current != null && current.stamp().equals(Stamp.of(filePath)) ? current.results() : null;
+    }
+
+    private void write() {
+        try {
+            while (true) {
+                List<GameResult> batch = new ArrayList<>();
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                storage.writeLock().lock();
+                try {
+                    IOException error = null;
+                    try {
+                        delegate.exclusively(() -> {
+                            Stamp before = Stamp.of(filePath);
+                            delegate.addAll(batch);
+                            Snapshot current = snapshot;
+                            if (current != null && current.stamp().equals(before)) {
+                                // Nobody else changed the file since it was read, so the copy stays valid.
+                                current.results().addAll(batch);
+                                snapshot = new Snapshot(Stamp.of(filePath), current.results());
+                            } else {
+                                snapshot = null;
+                            }
+                            return null;
+                        });
+                    } catch (IOException e) {
+                        Logger.error("Failed to store {} results: {}", batch.size(), e.getMessage());
+                        snapshot = null;
+                        error = e;
+                    }
+                    synchronized (this) {
+                        batch.forEach(pending::remove);
+                        if (error != null) {
+                            failure = error;
+                        }
+                        notifyAll();
+                    }
+                } finally {
+                    storage.writeLock().unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Logger.debug("Result writer stopped");
+        }
+    }
+
+    /**
+     * The stored results as read from the file, and the stamp of the file they reflect.
+     *
+     * @param stamp the stamp of the file
+     * @param results the results, which the writer appends to while holding the write lock of
+     *                {@link #storage}
+     */
+    private record Snapshot(Stamp stamp, List<GameResult> results) {
+    }
+
+    private record Stamp(FileTime modified, long size) {
+        static Stamp of(Path filePath) throws IOException {
+            if (!Files.exists(filePath)) {
+                return new Stamp(null, -1);
+            }
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return new Stamp(attributes.lastModifiedTime(), attributes.size());
+        }
+    }
+}
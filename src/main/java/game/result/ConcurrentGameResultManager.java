@@ -0,0 +1,268 @@
+package game.result;
+
+import lombok.NonNull;
+import org.tinylog.Logger;
+import util.JacksonHelper;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Stores the results in the JSON format of {@link JsonGameResultManager} so that several threads and
+ * several processes can add results to the same file without losing any. Every access to the file
+ * holds a lock on a {@code .lock} file next to it, which is shared by the readers and exclusive for
+ * the writers. Concurrent {@code add} calls of a process are queued and written together by whichever
+ * thread holds the lock next (group commit). {@link #exclusively(StorageAction)} holds the exclusive
+ * lock for a whole action, during which the thread that runs it can still use this manager, and
+ * {@link #shared(StorageAction)} holds the shared lock.
+ */
+public class ConcurrentGameResultManager implements GameResultManager {
+    private static final int STRIPES = 16;
+    private static final Map<Path, SharedFile> FILES = new ConcurrentHashMap<>();
+
+    private final Path filePath;
+    private final SharedFile file;
+
+    /**
+     * Creates a {@code ConcurrentGameResultManager} object. Instances of the same process that use the
+     * same file share their write queue and their locks.
+     *
+     * @param filePath the path of the result file
+     */
+    public ConcurrentGameResultManager(@NonNull Path filePath) {
+        this.filePath = filePath.toAbsolutePath().normalize();
+        this.file = FILES.computeIfAbsent(this.filePath,
+                path -> new SharedFile(path.resolveSibling(path.getFileName() + ".lock")));
+    }
+
+    @Override
+    public void add(@NonNull GameResult result) throws IOException {
+        addAll(List.of(result));
+    }
+
+    /**
+     * Queues several results and waits until they are written, together with the results other
+     * threads queued in the meantime.
+     *
+     * @param results the results to be added
+     * @throws IOException if any I/O error occurs, or the thread holds the shared lock
+     */
+    @Override
+    public void addAll(@NonNull List<GameResult> results) throws IOException {
+        var pending = new PendingWrite(List.copyOf(results));
+        file.stripes[(int) (Thread.currentThread().getId() % STRIPES)].add(pending);
+        lockExclusively();
+        try {
+            if (!pending.done.isDone()) {
+                commit();
+            }
+        } finally {
+            file.lock.writeLock().unlock();
+        }
+        try {
+            pending.done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while adding a result", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public List<GameResult> getAll() throws IOException {
+        return read(JsonGameResultManager::getAll);
+    }
+
+    @Override
+    public List<GameResult> query(@NonNull ResultQuery query) throws IOException {
+        return read(results -> results.query(query));
+    }
+
+    @Override
+    public long count(@NonNull ResultQuery query) throws IOException {
+        return read(results -> results.count(query));
+    }
+
+    @Override
+    public <T> T exclusively(@NonNull StorageAction<T> action) throws IOException {
+        if (file.lock.isWriteLockedByCurrentThread()) {
+            return action.run();
+        }
+        lockExclusively();
+        try {
+            return lockFile(action);
+        } finally {
+            file.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public <T> T shared(@NonNull StorageAction<T> action) throws IOException {
+        if (file.lock.isWriteLockedByCurrentThread() || file.lock.getReadHoldCount() > 0) {
+            return action.run();
+        }
+        file.lock.readLock().lock();
+        try {
+            file.lockShared();
+            try {
+                return action.run();
+            } finally {
+                file.unlockShared();
+            }
+        } finally {
+            file.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@return the number of writes to the file by the managers of this process, each of which may
+     * have written the results of several {@code add} calls}
+     */
+    long getCommitCount() {
+        return file.commits;
+    }
+
+    private <T> T read(Reader<T> reader) throws IOException {
+        return shared(() -> reader.read(new JsonGameResultManager(filePath)));
+    }
+
+    private void lockExclusively() {
+        if (file.lock.getReadHoldCount() > 0) {
+            throw new IllegalStateException("Results cannot be added while they are read: " + filePath);
+        }
+        file.lock.writeLock().lock();
+    }
+
+    /**
+     * Runs an action while holding the exclusive lock of the file. Must be called while holding the
+     * write lock.
+     */
+    private <T> T lockFile(StorageAction<T> action) throws IOException {
+        if (file.fileLocked) {
+            return action.run();
+        }
+        try (FileChannel lockChannel = file.openLockFile();
+             FileLock ignored = lockChannel.lock()) {
+            file.fileLocked = true;
+            return action.run();
+        } finally {
+            file.fileLocked = false;
+        }
+    }
+
+    private void commit() {
+        List<PendingWrite> batch = new ArrayList<>();
+        for (ConcurrentLinkedQueue<PendingWrite> stripe : file.stripes) {
+            PendingWrite pending;
+            while ((pending = stripe.poll()) != null) {
+                batch.add(pending);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<GameResult> results = batch.stream()
+                    .flatMap(pending -> pending.results.stream())
+                    .toList();
+            lockFile(() -> {
+                JacksonHelper.appendToList(filePath, results, true);
+                return null;
+            });
+            file.commits++;
+            Logger.trace("Committed {} results of {} calls to {}", results.size(), batch.size(), filePath);
+            batch.forEach(pending -> pending.done.complete(null));
+        } catch (IOException | RuntimeException e) {
+            batch.forEach(pending -> pending.done.completeExceptionally(e));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(JsonGameResultManager results) throws IOException;
+    }
+
+    private static class SharedFile {
+        private final Path lockPath;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        /**
+         * The number of threads holding the read lock of {@link #lock} that use the shared lock of the
+         * file, guarded by this object.
+         */
+        private int readers;
+        /**
+         * The channel holding the shared lock of the file while there are readers, guarded by this object.
+         */
+        private FileChannel readChannel;
+        /**
+         * Whether the exclusive lock of the file is held, guarded by the write lock of {@link #lock}.
+         */
+        private boolean fileLocked;
+        /**
+         * The number of commits, written while holding the write lock of {@link #lock}.
+         */
+        private volatile long commits;
+        @SuppressWarnings("unchecked")
+        private final ConcurrentLinkedQueue<PendingWrite>[] stripes = new ConcurrentLinkedQueue[STRIPES];
+
+        SharedFile(Path lockPath) {
+            this.lockPath = lockPath;
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new ConcurrentLinkedQueue<>();
+            }
+        }
+
+        FileChannel openLockFile() throws IOException {
+            return FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+
+        /**
+         * Takes the shared lock of the file for a reader, unless another reader of this process holds it
+         * already. A process can hold only one lock on a file at a time.
+         */
+        synchronized void lockShared() throws IOException {
+            if (readers == 0) {
+                FileChannel channel = openLockFile();
+                try {
+                    channel.lock(0, Long.MAX_VALUE, true);
+                } catch (IOException | RuntimeException e) {
+                    channel.close();
+                    throw e;
+                }
+                readChannel = channel;
+            }
+            readers++;
+        }
+
+        synchronized void unlockShared() throws IOException {
+            if (--readers == 0) {
+                FileChannel channel = readChannel;
+                readChannel = null;
+                // Closing the channel releases the lock.
+                channel.close();
+            }
+        }
+    }
+
+    private static class PendingWrite {
+        private final List<GameResult> results;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        PendingWrite(List<GameResult> results) {
+            this.results = results;
+        }
+    }
+}
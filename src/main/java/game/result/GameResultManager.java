@@ -6,7 +6,19 @@ import java.util.List;
 
 public interface GameResultManager {
 
-    List<GameResult> add(GameResult result) throws IOException;
+    void add(GameResult result) throws IOException;
+
+    /**
+     * Adds several results. Managers that can store them with a single write override this.
+     *
+     * @param results the results to be added
+     * @throws IOException if any I/O error occurs
+     */
+    default void addAll(List<GameResult> results) throws IOException {
+        for (GameResult result : results) {
+            add(result);
+        }
+    }
 
     List<GameResult> getAll() throws IOException;
 
@@ -18,4 +30,70 @@ public interface GameResultManager {
                 .toList();
     }
 
+    /**
+     * Selects a page of the results that match the filters of a query.
+     *
+     * @param query the filters, the order and the page
+     * @return the results of the page
+     * @throws IOException if any I/O error occurs
+     */
+    default List<GameResult> query(ResultQuery query) throws IOException {
+        return query.select(getAll().stream());
+    }
+
+    /**
+     * Counts the results that match the filters of a query, ignoring its page.
+     *
+     * @param query the filters
+     * @return the number of matching results
+     * @throws IOException if any I/O error occurs
+     */
+    default long count(ResultQuery query) throws IOException {
+        return getAll().stream().filter(query::matches).count();
+    }
+
+    /**
+     * Runs an action while no other manager can add results to the same storage. The action may call
+     * the methods of this manager. Managers without a storage lock just run the action.
+     *
+     * @param action the action
+     * @param <T> the type of the result of the action
+     * @return the result of the action
+     * @throws IOException if the action or the locking fails
+     */
+    default <T> T exclusively(StorageAction<T> action) throws IOException {
+        return action.run();
+    }
+
+    /**
+     * Runs an action while no other manager can add results to the same storage, but other actions
+     * that only read it may run at the same time. The action may call the methods of this manager
+     * that read results, but must not add any. Managers without a storage lock just run the action.
+     *
+     * @param action the action
+     * @param <T> the type of the result of the action
+     * @return the result of the action
+     * @throws IOException if the action or the locking fails
+     */
+    default <T> T shared(StorageAction<T> action) throws IOException {
+        return action.run();
+    }
+
+    /**
+     * An action on the storage of the results.
+     *
+     * @param <T> the type of the result of the action
+     */
+    @FunctionalInterface
+    interface StorageAction<T> {
+
+        /**
+         * Runs the action.
+         *
+         * @return the result of the action
+         * @throws IOException if any I/O error occurs
+         */
+        T run() throws IOException;
+    }
+
 }
\ No newline at end of file
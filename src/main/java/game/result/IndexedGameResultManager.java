@@ -0,0 +1,357 @@
+package game.result;
+
+import lombok.NonNull;
+import org.tinylog.Logger;
+import util.JacksonHelper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decorates a {@link GameResultManager} with a leaderboard index that holds the best results in the
+ * order of {@link GameResultManager#getBest(int)} and the number of all results. The index is kept in
+ * memory together with the size and modification time of the results file it reflects, and stored in
+ * its own file next to the results whenever it changes. Concurrent {@code add} calls are queued and written to the decorated
+ * manager together by whichever thread commits next, while the results are locked with
+ * {@link GameResultManager#exclusively(StorageAction)}. Queries only hold the shared lock of
+ * {@link GameResultManager#shared(StorageAction)}. When the results file no longer matches the index
+ * in memory or in its file, for example because another manager added results, or results were added
+ * that did not change the index, the index is rebuilt from all results and stored. Its file is
+ * replaced atomically.
+ */
+public class IndexedGameResultManager implements GameResultManager {
+    private static final int DEFAULT_CAPACITY = 100;
+
+    private final GameResultManager delegate;
+    private final Path resultsPath;
+    private final Path indexPath;
+    private final int capacity;
+    private final Queue<PendingAdd> queue = new ConcurrentLinkedQueue<>();
+    /**
+     * Held by the thread that commits the queued results, and by {@link #exclusively(StorageAction)},
+     * always before the exclusive lock of the delegate.
+     */
+    private final ReentrantLock committer = new ReentrantLock();
+    /**
+     * The index of the results, replaced while holding a lock of the delegate.
+     */
+    private volatile Index index;
+
+    /**
+     * Creates an {@code IndexedGameResultManager} object with the default index capacity.
+     *
+     * @param delegate the manager that stores the results
+     * @param resultsPath the path of the file the delegate stores the results in
+     * @param indexPath the path of the index file
+     */
+    public IndexedGameResultManager(@NonNull GameResultManager delegate, @NonNull Path resultsPath,
+                                    @NonNull Path indexPath) {
+        this(delegate, resultsPath, indexPath, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an {@code IndexedGameResultManager} object.
+     *
+     * @param delegate the manager that stores the results
+     * @param resultsPath the path of the file the delegate stores the results in
+     * @param indexPath the path of the index file
+     * @param capacity the number of best results kept in the index
+     * @throws IllegalArgumentException when the capacity is not positive
+     */
+    public IndexedGameResultManager(@NonNull GameResultManager delegate, @NonNull Path resultsPath,
+                                    @NonNull Path indexPath, int capacity) throws IllegalArgumentException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.delegate = delegate;
+        this.resultsPath = resultsPath;
+        this.indexPath = indexPath;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void add(@NonNull GameResult result) throws IOException {
+        addAll(List.of(result));
+    }
+
+    /**
+     * Queues several results and waits until they are added to the decorated manager, together with
+     * the results other threads queued in the meantime.
+     *
+     * @param results the results to be added
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public void addAll(@NonNull List<GameResult> results) throws IOException {
+        var pending = new PendingAdd(List.copyOf(results));
+        queue.add(pending);
+        committer.lock();
+        try {
+            if (!pending.done.isDone()) {
+                delegate.exclusively(() -> {
+                    commit();
+                    return null;
+                });
+            }
+        } catch (IOException | RuntimeException e) {
+            // Thrown before the queue was drained, so the results are still queued.
+            if (queue.remove(pending)) {
+                throw e;
+            }
+        } finally {
+            committer.unlock();
+        }
+        try {
+            pending.done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while adding a result", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public List<GameResult> getAll() throws IOException {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<GameResult> getBest(int limit) throws IOException {
+        if (limit > capacity) {
+            return delegate.getBest(limit);
+        }
+        List<GameResult> best = delegate.shared(this::index).best();
+        return best.subList(0, Math.max(0, Math.min(limit, best.size())));
+    }
+
+    @Override
+    public List<GameResult> query(@NonNull ResultQuery query) throws IOException {
+        if (!query.isUnfiltered() || query.getSortKey() != ResultQuery.SortKey.STEPS || query.isDescending()
+                || (long) query.getOffset() + query.getLimit() > capacity) {
+            return delegate.query(query);
+        }
+        return query.select(delegate.shared(this::index).best().stream());
+    }
+
+    /**
+     * Counts the results that match a query. Queries without filters are answered by the index.
+     *
+     * @param query the filters
+     * @return the number of matching results
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public long count(@NonNull ResultQuery query) throws IOException {
+        if (!query.isUnfiltered()) {
+            return delegate.count(query);
+        }
+        return delegate.shared(this::index).count();
+    }
+
+    @Override
+    public <T> T exclusively(@NonNull StorageAction<T> action) throws IOException {
+        committer.lock();
+        try {
+            return delegate.exclusively(action);
+        } finally {
+            committer.unlock();
+        }
+    }
+
+    @Override
+    public <T> T shared(@NonNull StorageAction<T> action) throws IOException {
+        return delegate.shared(action);
+    }
+
+    /**
+     * Rebuilds the index from all results and stores it.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    public void rebuild() throws IOException {
+        exclusively(this::rebuildIndex);
+    }
+
+    /**
+     * Adds the queued results to the decorated manager and to the index. The index is stored only if
+     * its results have changed. Must be called while the results are locked exclusively.
+     */
+    private void commit() {
+        List<PendingAdd> batch = new ArrayList<>();
+        PendingAdd pending;
+        while ((pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Index current = index();
+            List<GameResult> results = batch.stream()
+                    .flatMap(add -> add.results.stream())
+                    .toList();
+            delegate.addAll(results);
+            var best = new ArrayList<>(current.best());
+            boolean changed = false;
+            for (GameResult result : results) {
+                if (best.size() < capacity || result.getSteps() < best.get(capacity - 1).getSteps()) {
+                    best.add(insertionPoint(best, result.getSteps()), result);
+                    if (best.size() > capacity) {
+                        best.remove(capacity);
+                    }
+                    changed = true;
+                }
+            }
+            var updated = new Index(Stamp.of(resultsPath), List.copyOf(best), current.count() + results.size());
+            if (changed) {
+                store(updated);
+            } else {
+                index = updated;
+            }
+            batch.forEach(add -> add.done.complete(null));
+        } catch (IOException | RuntimeException e) {
+            batch.forEach(add -> add.done.completeExceptionally(e));
+        }
+    }
+
+    private Index rebuildIndex() throws IOException {
+        Stamp stamp = Stamp.of(resultsPath);
+        List<GameResult> all = delegate.getAll();
+        // The heap keeps the worst of the best results on top; later results lose ties.
+        var heap = new PriorityQueue<Integer>(capacity + 1, Comparator
+                .<Integer>comparingInt(i -> all.get(i).getSteps())
+                .thenComparingInt(i -> i)
+                .reversed());
+        for (int i = 0; i < all.size(); i++) {
+            heap.add(i);
+            if (heap.size() > capacity) {
+                heap.poll();
+            }
+        }
+        var best = new ArrayList<GameResult>(heap.size());
+        while (!heap.isEmpty()) {
+            best.add(all.get(heap.poll()));
+        }
+        Collections.reverse(best);
+        var rebuilt = new Index(stamp, List.copyOf(best), all.size());
+        store(rebuilt);
+        Logger.debug("Leaderboard index rebuilt from {} results", all.size());
+        return rebuilt;
+    }
+
+    /**
+     * Returns the index of the current results, reading or rebuilding it if the results file has
+     * changed. Must be called while the results are locked. Readers holding the shared lock may
+     * rebuild the same index at the same time, which is harmless as they store the same contents.
+     */
+    private Index index() throws IOException {
+        Stamp stamp = Stamp.of(resultsPath);
+        Index current = index;
+        if (current != null && current.stamp().equals(stamp)) {
+            return current;
+        }
+        try {
+            IndexFile file = JacksonHelper.readLine(Files.readString(indexPath), IndexFile.class);
+            // Index files written before the count was kept have none.
+            if (stamp.equals(new Stamp(file.resultsSize(), file.resultsModified())) && file.count() != null) {
+                current = new Index(stamp, List.copyOf(file.best()), file.count());
+                index = current;
+                return current;
+            }
+            Logger.debug("Leaderboard index {} is out of date", indexPath);
+        } catch (NoSuchFileException e) {
+            Logger.debug("Leaderboard index {} is missing", indexPath);
+        } catch (IOException | RuntimeException e) {
+            Logger.warn("Leaderboard index {} is unreadable: {}", indexPath, e.getMessage());
+        }
+        return rebuildIndex();
+    }
+
+    private static int insertionPoint(List<GameResult> index, int steps) {
+        int low = 0;
+        int high = index.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (index.get(middle).getSteps() <= steps) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void store(Index updated) throws IOException {
+        Stamp stamp = updated.stamp();
+        byte[] json = JacksonHelper.writeLine(
+                new IndexFile(stamp.size(), stamp.modified(), updated.best(), updated.count()));
+        Path directory = indexPath.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, indexPath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, json);
+            Files.move(temp, indexPath, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        index = updated;
+    }
+
+    /**
+     * The contents of the index file.
+     *
+     * @param resultsSize the size of the results file the index was built from
+     * @param resultsModified the modification time of that file in nanoseconds
+     * @param best the best results
+     * @param count the number of all results, {@code null} in files of older versions
+     */
+    private record IndexFile(long resultsSize, long resultsModified, List<GameResult> best, Long count) {
+    }
+
+    /**
+     * The index in memory.
+     *
+     * @param stamp the stamp of the results file the index reflects
+     * @param best the best results, unmodifiable
+     * @param count the number of all results
+     */
+    private record Index(Stamp stamp, List<GameResult> best, long count) {
+    }
+
+    /**
+     * The size and modification time of the results file, both 0 if it does not exist.
+     */
+    private record Stamp(long size, long modified) {
+
+        static Stamp of(Path path) throws IOException {
+            try {
+                return new Stamp(Files.size(path), Files.getLastModifiedTime(path).to(TimeUnit.NANOSECONDS));
+            } catch (NoSuchFileException e) {
+                return new Stamp(0, 0);
+            }
+        }
+    }
+
+    private static class PendingAdd {
+        private final List<GameResult> results;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        PendingAdd(List<GameResult> results) {
+            this.results = results;
+        }
+    }
+}
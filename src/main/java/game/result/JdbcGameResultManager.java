@@ -0,0 +1,260 @@
+package game.result;
+
+import lombok.NonNull;
+import org.tinylog.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the results in an embedded H2 database file. The steps, the player names and the creation
+ * times are indexed, and {@link #getBest(int)} is answered by the database from the index on the steps.
+ * Creation times keep their offset but not their time zone region. The H2 driver is not part of the
+ * game jar and has to be put on the class path by the application that uses this manager.
+ */
+public class JdbcGameResultManager implements GameResultManager, Closeable {
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS game_result ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "player_name VARCHAR NOT NULL, "
+                + "steps INT NOT NULL, "
+                + "created TIMESTAMP(9) WITH TIME ZONE NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS game_result_steps ON game_result (steps, id)",
+        "CREATE INDEX IF NOT EXISTS game_result_player_name ON game_result (player_name)",
+        "CREATE INDEX IF NOT EXISTS game_result_created ON game_result (created)"
+    };
+    private static final String INSERT = "INSERT INTO game_result (player_name, steps, created) VALUES (?, ?, ?)";
+    private static final String SELECT = "SELECT player_name, steps, created FROM game_result";
+
+    private final Connection connection;
+
+    /**
+     * Creates a {@code JdbcGameResultManager} object that stores the results in an H2 database file.
+     * H2 adds the {@code .mv.db} extension to the path.
+     *
+     * @param databasePath the path of the database without its extension
+     * @throws IOException if the database cannot be opened
+     */
+    public JdbcGameResultManager(@NonNull Path databasePath) throws IOException {
+        this("jdbc:h2:file:" + databasePath.toAbsolutePath());
+    }
+
+    /**
+     * Creates a {@code JdbcGameResultManager} object and creates the table and its indexes if they do
+     * not exist yet.
+     *
+     * @param url the JDBC URL of the database
+     * @throws IOException if the database cannot be opened
+     */
+    public JdbcGameResultManager(@NonNull String url) throws IOException {
+        try {
+            connection = DriverManager.getConnection(url);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to open database " + url, e);
+        }
+        Logger.debug("Opened result database {}", url);
+    }
+
+    @Override
+    public synchronized void add(@NonNull GameResult result) throws IOException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            bind(insert, result);
+            insert.executeUpdate();
+        } catch (SQLException e) {
+            throw new IOException("Failed to add result", e);
+        }
+    }
+
+    /**
+     * Adds several results in batches within a single transaction.
+     *
+     * @param results the results to be added
+     * @throws IOException if the results cannot be added, in which case none of them are
+     */
+    @Override
+    public synchronized void addAll(@NonNull List<GameResult> results) throws IOException {
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                int batched = 0;
+                for (GameResult result : results) {
+                    bind(insert, result);
+                    insert.addBatch();
+                    if (++batched == BATCH_SIZE) {
+                        insert.executeBatch();
+                        batched = 0;
+                    }
+                }
+                if (batched > 0) {
+                    insert.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to add results", e);
+        }
+    }
+
+    @Override
+    public synchronized List<GameResult> getAll() throws IOException {
+        try (PreparedStatement select = connection.prepareStatement(SELECT + " ORDER BY id")) {
+            return read(select);
+        } catch (SQLException e) {
+            throw new IOException("Failed to read results", e);
+        }
+    }
+
+    /**
+     * Selects the best results with an {@code ORDER BY steps LIMIT ?} query on the index of the steps.
+     *
+     * @param limit the maximal number of results
+     * @return the results with the fewest steps, ties in the order they were added
+     * @throws IOException if the results cannot be read
+     */
+    @Override
+    public synchronized List<GameResult> getBest(int limit) throws IOException {
+        if (limit <= 0) {
+            return List.of();
+        }
+        try (PreparedStatement select = connection.prepareStatement(SELECT + " ORDER BY steps, id LIMIT ?")) {
+            select.setInt(1, limit);
+            return read(select);
+        } catch (SQLException e) {
+            throw new IOException("Failed to read results", e);
+        }
+    }
+
+    /**
+     * Selects a page of results with a single query that filters and sorts on the indexed columns.
+     *
+     * @param query the filters, the order and the page
+     * @return the results of the page
+     * @throws IOException if the results cannot be read
+     */
+    @Override
+    public synchronized List<GameResult> query(@NonNull ResultQuery query) throws IOException {
+        if (query.getLimit() <= 0) {
+            return List.of();
+        }
+        var parameters = new ArrayList<Object>();
+        String direction = query.isDescending() ? " DESC" : "";
+        String sql = SELECT + where(query, parameters)
+                + " ORDER BY " + column(query.getSortKey()) + direction + ", id LIMIT ? OFFSET ?";
+        parameters.add(query.getLimit());
+        parameters.add(Math.max(query.getOffset(), 0));
+        try (PreparedStatement select = prepare(sql, parameters)) {
+            return read(select);
+        } catch (SQLException e) {
+            throw new IOException("Failed to read results", e);
+        }
+    }
+
+    @Override
+    public synchronized long count(@NonNull ResultQuery query) throws IOException {
+        var parameters = new ArrayList<Object>();
+        try (PreparedStatement select = prepare("SELECT COUNT(*) FROM game_result" + where(query, parameters),
+                parameters);
+             ResultSet rows = select.executeQuery()) {
+            rows.next();
+            return rows.getLong(1);
+        } catch (SQLException e) {
+            throw new IOException("Failed to count results", e);
+        }
+    }
+
+    /**
+     * Closes the database connection.
+     *
+     * @throws IOException if the connection cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Failed to close database", e);
+        }
+    }
+
+    private PreparedStatement prepare(String sql, List<Object> parameters) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < parameters.size(); i++) {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+        return statement;
+    }
+
+    private static String where(ResultQuery query, List<Object> parameters) {
+        var conditions = new ArrayList<String>();
+        if (query.getPlayerName() != null) {
+            conditions.add("player_name = ?");
+            parameters.add(query.getPlayerName());
+        }
+        if (query.getCreatedFrom() != null) {
+            conditions.add("created >= ?");
+            parameters.add(query.getCreatedFrom().toOffsetDateTime());
+        }
+        if (query.getCreatedTo() != null) {
+            conditions.add("created < ?");
+            parameters.add(query.getCreatedTo().toOffsetDateTime());
+        }
+        if (query.getMinSteps() > 0) {
+            conditions.add("steps >= ?");
+            parameters.add(query.getMinSteps());
+        }
+        if (query.getMaxSteps() < Integer.MAX_VALUE) {
+            conditions.add("steps <= ?");
+            parameters.add(query.getMaxSteps());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static String column(ResultQuery.SortKey sortKey) {
+        return switch (sortKey) {
+            case STEPS -> "steps";
+            case CREATED -> "created";
+            case PLAYER_NAME -> "player_name";
+        };
+    }
+
+    private static void bind(PreparedStatement insert, GameResult result) throws SQLException {
+        insert.setString(1, result.getPlayerName());
+        insert.setInt(2, result.getSteps());
+        insert.setObject(3, result.getCreated().toOffsetDateTime());
+    }
+
+    private static List<GameResult> read(PreparedStatement select) throws SQLException {
+        var results = new ArrayList<GameResult>();
+        try (ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                results.add(GameResult.builder()
+                        .playerName(rows.getString(1))
+                        .steps(rows.getInt(2))
+                        .created(rows.getObject(3, OffsetDateTime.class).toZonedDateTime())
+                        .build());
+            }
+        }
+        return results;
+    }
+}
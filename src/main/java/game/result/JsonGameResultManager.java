@@ -18,13 +18,8 @@ public class JsonGameResultManager implements GameResultManager {
     }
 
     @Override
-    public List<GameResult> add(@NonNull GameResult result) throws IOException {
-        var results = getAll();
-        results.add(result);
-        try (var out = Files.newOutputStream(filePath)) {
-            JacksonHelper.writeList(out, results);
-        }
-        return results;
+    public void add(@NonNull GameResult result) throws IOException {
+        JacksonHelper.appendToList(filePath, List.of(result), true);
     }
 
     public List<GameResult> getAll() throws IOException {
@@ -36,4 +31,31 @@ public class JsonGameResultManager implements GameResultManager {
         }
     }
 
+    @Override
+    public List<GameResult> getBest(int limit) throws IOException {
+        return query(ResultQuery.page(0, limit));
+    }
+
+    @Override
+    public List<GameResult> query(@NonNull ResultQuery query) throws IOException {
+        if (!Files.exists(filePath)) {
+            return List.of();
+        }
+        try (var in = Files.newInputStream(filePath);
+             var results = JacksonHelper.streamList(in, GameResult.class)) {
+            return query.select(results);
+        }
+    }
+
+    @Override
+    public long count(@NonNull ResultQuery query) throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+        try (var in = Files.newInputStream(filePath);
+             var results = JacksonHelper.streamList(in, GameResult.class)) {
+            return results.filter(query::matches).count();
+        }
+    }
+
 }
\ No newline at end of file
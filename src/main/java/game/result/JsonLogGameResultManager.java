@@ -0,0 +1,177 @@
+package game.result;
+
+import lombok.NonNull;
+import org.tinylog.Logger;
+import util.JacksonHelper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the results in an append-only log that holds one JSON object per line. Adding a result
+ * appends a single line, the log is synced to the disk once per batch of results, and it is compacted
+ * periodically to drop lines that were left incomplete by a crash.
+ */
+public class JsonLogGameResultManager implements GameResultManager, Closeable {
+    private static final int DEFAULT_SYNC_INTERVAL = 16;
+    private static final int DEFAULT_COMPACTION_INTERVAL = 10_000;
+
+    private final Path filePath;
+    private final int syncInterval;
+    private final int compactionInterval;
+    private FileChannel channel;
+    private int unsynced = 0;
+    private int appendedSinceCompaction = 0;
+
+    /**
+     * Creates a {@code JsonLogGameResultManager} object with the default sync and compaction intervals.
+     *
+     * @param filePath the path of the log file
+     */
+    public JsonLogGameResultManager(@NonNull Path filePath) {
+        this(filePath, DEFAULT_SYNC_INTERVAL, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JsonLogGameResultManager} object.
+     *
+     * @param filePath the path of the log file
+     * @param syncInterval the number of results after which the log is synced to the disk
+     * @param compactionInterval the number of results after which the log is compacted
+     * @throws IllegalArgumentException when an interval is not positive
+     */
+    public JsonLogGameResultManager(@NonNull Path filePath, int syncInterval, int compactionInterval)
+            throws IllegalArgumentException {
+        if (syncInterval <= 0 || compactionInterval <= 0) {
+            throw new IllegalArgumentException("Intervals must be positive");
+        }
+        this.filePath = filePath;
+        this.syncInterval = syncInterval;
+        this.compactionInterval = compactionInterval;
+    }
+
+    @Override
+    public synchronized void add(@NonNull GameResult result) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap(JacksonHelper.writeLine(result));
+        FileChannel out = channel();
+        while (line.hasRemaining()) {
+            out.write(line);
+        }
+        if (++unsynced >= syncInterval) {
+            sync();
+        }
+        if (++appendedSinceCompaction >= compactionInterval) {
+            compact();
+        }
+    }
+
+    @Override
+    public synchronized List<GameResult> getAll() throws IOException {
+        var results = new ArrayList<GameResult>();
+        if (!Files.exists(filePath)) {
+            return results;
+        }
+        try (BufferedReader in = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank()) {
+                    try {
+                        results.add(JacksonHelper.readLine(line, GameResult.class));
+                    } catch (IOException e) {
+                        Logger.warn("Skipping damaged line of {}: {}", filePath, e.getMessage());
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Forces the results added so far to the disk.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    public synchronized void sync() throws IOException {
+        if (channel != null && unsynced > 0) {
+            channel.force(false);
+        }
+        unsynced = 0;
+    }
+
+    /**
+     * Rewrites the log so that it contains only complete results. The new log replaces the old one
+     * atomically.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    public synchronized void compact() throws IOException {
+        List<GameResult> results = getAll();
+        closeChannel();
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (GameResult result : results) {
+                ByteBuffer line = ByteBuffer.wrap(JacksonHelper.writeLine(result));
+                while (line.hasRemaining()) {
+                    out.write(line);
+                }
+            }
+            out.force(false);
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        appendedSinceCompaction = 0;
+        Logger.debug("Compacted {} with {} results", filePath, results.size());
+    }
+
+    /**
+     * Syncs the pending results to the disk and closes the log file.
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        sync();
+        closeChannel();
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            terminateLastLine(channel);
+            channel.position(channel.size());
+        }
+        return channel;
+    }
+
+    private static void terminateLastLine(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return;
+        }
+        ByteBuffer last = ByteBuffer.allocate(1);
+        channel.read(last, size - 1);
+        if (last.get(0) != '\n') {
+            channel.write(ByteBuffer.wrap(new byte[] {'\n'}), size);
+        }
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            channel = null;
+            unsynced = 0;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package game.result;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Describes a page of results that match some filters, in a given order. Results that are equal by
+ * the sort key keep the order they were added in, whichever direction is chosen.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ResultQuery {
+
+    /**
+     * The keys the results can be sorted by.
+     */
+    public enum SortKey {
+        /**
+         * Sorts by the number of steps.
+         */
+        STEPS(Comparator.comparingInt(GameResult::getSteps)),
+        /**
+         * Sorts by the creation time.
+         */
+        CREATED(Comparator.comparing(GameResult::getCreated, Comparator.comparing(ZonedDateTime::toInstant))),
+        /**
+         * Sorts by the name of the player.
+         */
+        PLAYER_NAME(Comparator.comparing(GameResult::getPlayerName));
+
+        private final Comparator<GameResult> comparator;
+
+        SortKey(Comparator<GameResult> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    /**
+     * The name of the player whose results are selected, or {@code null} for all players.
+     */
+    String playerName;
+
+    /**
+     * The earliest creation time selected, or {@code null} for no lower bound.
+     */
+    ZonedDateTime createdFrom;
+
+    /**
+     * The creation time before which results are selected, or {@code null} for no upper bound.
+     */
+    ZonedDateTime createdTo;
+
+    /**
+     * The minimal number of steps selected.
+     */
+    @Builder.Default int minSteps = 0;
+
+    /**
+     * The maximal number of steps selected.
+     */
+    @Builder.Default int maxSteps = Integer.MAX_VALUE;
+
+    /**
+     * The key the results are sorted by.
+     */
+    @Builder.Default SortKey sortKey = SortKey.STEPS;
+
+    /**
+     * Whether the results are sorted in descending order of the sort key.
+     */
+    boolean descending;
+
+    /**
+     * The number of matching results skipped before the page.
+     */
+    int offset;
+
+    /**
+     * The maximal number of results on the page.
+     */
+    @Builder.Default int limit = Integer.MAX_VALUE;
+
+    /**
+     * {@return a query for the given page of all results sorted by steps}
+     *
+     * @param offset the number of results skipped before the page
+     * @param limit the maximal number of results on the page
+     */
+    public static ResultQuery page(int offset, int limit) {
+        return builder().offset(offset).limit(limit).build();
+    }
+
+    /**
+     * {@return whether the query selects every result}
+     */
+    public boolean isUnfiltered() {
+        return playerName == null && createdFrom == null && createdTo == null
+                && minSteps <= 0 && maxSteps == Integer.MAX_VALUE;
+    }
+
+    /**
+     * {@return whether the result passes the filters of the query}
+     *
+     * @param result the result to be checked
+     */
+    public boolean matches(GameResult result) {
+        return result.getSteps() >= minSteps
+                && result.getSteps() <= maxSteps
+                && (playerName == null || playerName.equals(result.getPlayerName()))
+                && (createdFrom == null || !result.getCreated().isBefore(createdFrom))
+                && (createdTo == null || result.getCreated().isBefore(createdTo));
+    }
+
+    /**
+     * {@return the order of the results, not including the order they were added in}
+     */
+    public Comparator<GameResult> comparator() {
+        return descending ? sortKey.comparator.reversed() : sortKey.comparator;
+    }
+
+    /**
+     * Selects the page from results in the order they were added. Only the results up to the end of
+     * the page are kept in memory.
+     *
+     * @param results the results in the order they were added
+     * @return the results of the page
+     */
+    List<GameResult> select(Stream<GameResult> results) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long window = Math.max(offset, 0) + (long) limit;
+        // The heap keeps the last result of the window on top; later results lose ties.
+        var heap = new PriorityQueue<Ranked>(Comparator.comparing(Ranked::result, comparator())
+                .thenComparingLong(Ranked::index)
+                .reversed());
+        long[] index = {0};
+        results.filter(this::matches).forEach(result -> {
+            heap.add(new Ranked(index[0]++, result));
+            if (heap.size() > window) {
+                heap.poll();
+            }
+        });
+        var selected = new GameResult[heap.size()];
+        for (int i = selected.length - 1; i >= 0; i--) {
+            selected[i] = heap.poll().result();
+        }
+        return List.of(selected).subList(Math.min(Math.max(offset, 0), selected.length), selected.length);
+    }
+
+    private record Ranked(long index, GameResult result) {
+    }
+}
@@ -0,0 +1,87 @@
+package game.solver;
+
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import game.state.WallGrid;
+import util.collections.IntDeque;
+import util.collections.VisitedSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Finds the shortest solution of a labyrinth with a breadth-first search over the cells where the
+ * ball can stop. The search uses the slide semantics of {@link Board#slide(int, Direction)} and keeps
+ * its state in primitive arrays, so it does not create objects per visited cell.
+ * A solver reuses its buffers between searches, so an instance must not be shared between threads.
+ */
+public class BfsSolver {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final IntDeque queue = new IntDeque();
+    private final VisitedSet visited = new VisitedSet(0);
+    private int[] parent = new int[0];
+    private byte[] parentDirection = new byte[0];
+
+    /**
+     * Finds the shortest solution from the current position of the ball.
+     *
+     * @param board the board to solve
+     * @return the shortest solution, or an empty {@code Optional} if the goal cannot be reached
+     */
+    public Optional<Solution> solve(Board board) {
+        Position ball = board.getBall();
+        return solve(board, board.getWalls().cellOf(ball.row(), ball.col()));
+    }
+
+    /**
+     * Finds the shortest solution from the given cell.
+     *
+     * @param board the board to solve
+     * @param startCell the index of the cell where the ball starts
+     * @return the shortest solution, or an empty {@code Optional} if the goal cannot be reached
+     */
+    public Optional<Solution> solve(Board board, int startCell) {
+        WallGrid walls = board.getWalls();
+        int goalCell = walls.cellOf(board.getGoal().row(), board.getGoal().col());
+        ensureCapacity(walls.getCellCount());
+        visited.reset(walls.getCellCount());
+        queue.clear();
+        queue.addLast(startCell);
+        visited.visit(startCell);
+        while (!queue.isEmpty()) {
+            int cell = queue.removeFirst();
+            if (cell == goalCell) {
+                return Optional.of(new Solution(path(startCell, goalCell)));
+            }
+            for (Direction direction : DIRECTIONS) {
+                int next = board.slide(cell, direction);
+                if (visited.visit(next)) {
+                    parent[next] = cell;
+                    parentDirection[next] = (byte) direction.ordinal();
+                    queue.addLast(next);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void ensureCapacity(int cellCount) {
+        if (parent.length < cellCount) {
+            parent = new int[cellCount];
+            parentDirection = new byte[cellCount];
+        }
+    }
+
+    private List<Direction> path(int startCell, int goalCell) {
+        List<Direction> moves = new ArrayList<>();
+        for (int cell = goalCell; cell != startCell; cell = parent[cell]) {
+            moves.add(DIRECTIONS[parentDirection[cell]]);
+        }
+        Collections.reverse(moves);
+        return moves;
+    }
+}
@@ -0,0 +1,53 @@
+package game.solver;
+
+import game.state.Board;
+import game.state.Position;
+
+import java.util.Arrays;
+
+/**
+ * Computes the optimal number of moves to the goal from every cell of a board at once, with a
+ * breadth-first search that starts at the goal and follows the slide moves backwards.
+ */
+public class DistanceSolver {
+
+    /**
+     * The distance of the cells from which the goal cannot be reached.
+     */
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * Computes the distance map of the given board.
+     *
+     * @param board the board to solve
+     * @return the minimal number of moves to the goal indexed by cell, or {@link #UNREACHABLE}
+     */
+    public int[] distances(Board board) {
+        ReverseSlideGraph graph = new ReverseSlideGraph(board);
+        int[] distances = new int[graph.getCellCount()];
+        Arrays.fill(distances, UNREACHABLE);
+        int[] queue = new int[graph.getCellCount()];
+        int head = 0;
+        int tail = 0;
+        int goalCell = goalCell(board);
+        distances[goalCell] = 0;
+        queue[tail++] = goalCell;
+        while (head < tail) {
+            int cell = queue[head++];
+            int distance = distances[cell] + 1;
+            for (int i = graph.start(cell); i < graph.end(cell); i++) {
+                int source = graph.source(i);
+                if (distances[source] == UNREACHABLE) {
+                    distances[source] = distance;
+                    queue[tail++] = source;
+                }
+            }
+        }
+        return distances;
+    }
+
+    static int goalCell(Board board) {
+        Position goal = board.getGoal();
+        return board.getWalls().cellOf(goal.row(), goal.col());
+    }
+}
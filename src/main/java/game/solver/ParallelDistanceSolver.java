@@ -0,0 +1,158 @@
+package game.solver;
+
+import game.state.Board;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes distance maps like {@link DistanceSolver} on a {@link ForkJoinPool}. The frontier of each
+ * level of a large board is split among the workers, and a batch of boards is split board by board.
+ */
+public class ParallelDistanceSolver {
+    private static final VarHandle DISTANCES = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int DEFAULT_THRESHOLD = 4096;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final DistanceSolver sequentialSolver = new DistanceSolver();
+
+    /**
+     * Creates a {@code ParallelDistanceSolver} object that runs on the common pool.
+     */
+    public ParallelDistanceSolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code ParallelDistanceSolver} object.
+     *
+     * @param pool the pool that runs the tasks
+     * @param threshold the number of cells below which work is not split any further
+     * @throws IllegalArgumentException when the threshold is not positive
+     */
+    public ParallelDistanceSolver(ForkJoinPool pool, int threshold) throws IllegalArgumentException {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Computes the distance map of the given board, expanding each level of the search in parallel.
+     *
+     * @param board the board to solve
+     * @return the minimal number of moves to the goal indexed by cell, or {@link DistanceSolver#UNREACHABLE}
+     */
+    public int[] distances(Board board) {
+        if (board.getWalls().getCellCount() < threshold) {
+            return sequentialSolver.distances(board);
+        }
+        ReverseSlideGraph graph = new ReverseSlideGraph(board);
+        int[] distances = new int[graph.getCellCount()];
+        Arrays.fill(distances, DistanceSolver.UNREACHABLE);
+        int goalCell = DistanceSolver.goalCell(board);
+        distances[goalCell] = 0;
+        int[] frontier = {goalCell};
+        for (int distance = 1; frontier.length > 0; distance++) {
+            frontier = pool.invoke(new ExpandTask(graph, distances, frontier, 0, frontier.length, distance));
+        }
+        return distances;
+    }
+
+    /**
+     * Computes the distance maps of a batch of boards, solving different boards in parallel.
+     *
+     * @param boards the boards to solve
+     * @return the distance maps in the order of the boards
+     */
+    public List<int[]> distances(List<Board> boards) {
+        int[][] results = new int[boards.size()][];
+        if (!boards.isEmpty()) {
+            pool.invoke(new BatchTask(boards, results, 0, boards.size()));
+        }
+        return Arrays.asList(results);
+    }
+
+    private class ExpandTask extends RecursiveTask<int[]> {
+        private final ReverseSlideGraph graph;
+        private final int[] distances;
+        private final int[] frontier;
+        private final int from;
+        private final int to;
+        private final int distance;
+
+        ExpandTask(ReverseSlideGraph graph, int[] distances, int[] frontier, int from, int to, int distance) {
+            this.graph = graph;
+            this.distances = distances;
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+            this.distance = distance;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= threshold) {
+                return expand();
+            }
+            int middle = (from + to) >>> 1;
+            ExpandTask left = new ExpandTask(graph, distances, frontier, from, middle, distance);
+            left.fork();
+            int[] right = new ExpandTask(graph, distances, frontier, middle, to, distance).compute();
+            int[] leftResult = left.join();
+            int[] merged = Arrays.copyOf(leftResult, leftResult.length + right.length);
+            System.arraycopy(right, 0, merged, leftResult.length, right.length);
+            return merged;
+        }
+
+        private int[] expand() {
+            int[] discovered = new int[Math.max(16, to - from)];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int cell = frontier[i];
+                for (int j = graph.start(cell); j < graph.end(cell); j++) {
+                    int source = graph.source(j);
+                    if ((int) DISTANCES.getOpaque(distances, source) == DistanceSolver.UNREACHABLE
+                            && DISTANCES.compareAndSet(distances, source, DistanceSolver.UNREACHABLE, distance)) {
+                        if (count == discovered.length) {
+                            discovered = Arrays.copyOf(discovered, count * 2);
+                        }
+                        discovered[count++] = source;
+                    }
+                }
+            }
+            return Arrays.copyOf(discovered, count);
+        }
+    }
+
+    private class BatchTask extends RecursiveAction {
+        private final List<Board> boards;
+        private final int[][] results;
+        private final int from;
+        private final int to;
+
+        BatchTask(List<Board> boards, int[][] results, int from, int to) {
+            this.boards = boards;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                results[from] = sequentialSolver.distances(boards.get(from));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BatchTask(boards, results, from, middle), new BatchTask(boards, results, middle, to));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package game.solver;
+
+import game.state.Board;
+import game.state.Direction;
+
+/**
+ * The inverse of the slide graph of a board in compressed sparse row form: for every cell it lists
+ * the cells from which a single move ends in that cell.
+ */
+class ReverseSlideGraph {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int[] offsets;
+    private final int[] sources;
+
+    ReverseSlideGraph(Board board) {
+        int cellCount = board.getWalls().getCellCount();
+        offsets = new int[cellCount + 1];
+        for (int cell = 0; cell < cellCount; cell++) {
+            for (Direction direction : DIRECTIONS) {
+                int target = board.slide(cell, direction);
+                if (target != cell) {
+                    offsets[target + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            offsets[cell + 1] += offsets[cell];
+        }
+        sources = new int[offsets[cellCount]];
+        int[] next = new int[cellCount];
+        System.arraycopy(offsets, 0, next, 0, cellCount);
+        for (int cell = 0; cell < cellCount; cell++) {
+            for (Direction direction : DIRECTIONS) {
+                int target = board.slide(cell, direction);
+                if (target != cell) {
+                    sources[next[target]++] = cell;
+                }
+            }
+        }
+    }
+
+    int getCellCount() {
+        return offsets.length - 1;
+    }
+
+    int start(int cell) {
+        return offsets[cell];
+    }
+
+    int end(int cell) {
+        return offsets[cell + 1];
+    }
+
+    int source(int index) {
+        return sources[index];
+    }
+}
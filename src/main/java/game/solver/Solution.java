@@ -0,0 +1,43 @@
+package game.solver;
+
+import game.state.Direction;
+
+import java.util.List;
+
+/**
+ * Represents a sequence of moves that takes the ball to the goal.
+ */
+public class Solution {
+    private final List<Direction> moves;
+
+    /**
+     * Creates a {@code Solution} object.
+     *
+     * @param moves the moves in the order they have to be performed
+     */
+    public Solution(List<Direction> moves) {
+        this.moves = List.copyOf(moves);
+    }
+
+    /**
+     * {@return the moves in the order they have to be performed}
+     */
+    public List<Direction> getMoves() {
+        return moves;
+    }
+
+    /**
+     * {@return the number of moves of the solution}
+     */
+    public int getLength() {
+        return moves.size();
+    }
+
+    /**
+     * {@return the string representation of the {@code Solution} object}
+     */
+    @Override
+    public String toString() {
+        return moves.size() + " moves " + moves;
+    }
+}
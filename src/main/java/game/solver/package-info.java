@@ -0,0 +1,4 @@
+/**
+ * This package contains solvers that compute the optimal moves of the labyrinth game.
+ */
+package game.solver;
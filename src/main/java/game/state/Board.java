@@ -6,85 +6,116 @@ import org.tinylog.Logger;
  * Represents a labyrinth board consisting of squares with walls, a ball that moves and a goal.
  */
 public class Board {
-    private final int size = 7;
-    private final Square[][] squares;
-    private final Position ball;
-    private final Position goal = new Position(5,2);
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private static final int DEFAULT_SIZE = 7;
+
+    private final int size;
+    private final WallGrid walls;
+    private Position ball;
+    private final Position goal;
     private int steps = 0;
+    private int[] destinations;
+    private int destinationsModCount;
 
     /**
-     * Creates a {@code Board} object with the given ball position.
+     * Creates a {@code Board} object of the built-in labyrinth with the given ball position.
      *
      * @param ballPosition the position of the ball in the labyrinth
+     * @throws IllegalArgumentException when the ball is outside the bounds of the board
      */
-    public Board(Position ballPosition) {
-        squares = new Square[size][size];
-        initializeSquares();
-        addOutsideBorders();
-        addWalls();
-        isValidPosition(ballPosition);
-        this.ball = ballPosition;
+    public Board(Position ballPosition) throws IllegalArgumentException {
+        this(createWalls(), Position.of(5, 2), ballPosition);
         Logger.info("Board created");
     }
 
-    private void initializeSquares(){
-        for (var i = 0; i < size; i++) {
-            for (var j = 0; j < size; j++) {
-                squares[i][j] = new Square();
-            }
+    /**
+     * Creates a {@code Board} object with the given walls, goal and ball position.
+     * The board uses the given wall grid directly and adds the outside borders to it.
+     *
+     * @param walls the walls of the labyrinth
+     * @param goal the position of the goal
+     * @param ballPosition the position of the ball in the labyrinth
+     * @throws IllegalArgumentException when the goal or the ball is outside the bounds of the board
+     */
+    public Board(WallGrid walls, Position goal, Position ballPosition) throws IllegalArgumentException {
+        this.size = walls.getSize();
+        this.walls = walls;
+        if (!isValidPosition(goal) || !isValidPosition(ballPosition)) {
+            throw new IllegalArgumentException("Position is outside the bounds of the board");
         }
+        this.goal = goal;
+        this.ball = ballPosition;
+        walls.addOutsideBorders();
+        buildDestinations();
     }
 
-    private void addOutsideBorders() {
-        for (var i = 0; i < size; i++) {
-            squares[0][i].setWall(Direction.UP);
-            squares[size - 1][i].setWall(Direction.DOWN);
-        }
-        for (var i = 0; i < size; i++) {
-            squares[i][0].setWall(Direction.LEFT);
-            squares[i][size - 1].setWall(Direction.RIGHT);
+    /**
+     * Creates a {@code Board} object with the walls and goal of another board and a new ball position.
+     * The two boards share their walls, but each has its own ball and steps, so they can be played
+     * by different threads.
+     *
+     * @param board the board whose labyrinth is used
+     * @param ballPosition the position of the ball in the labyrinth
+     * @throws IllegalArgumentException when the ball is outside the bounds of the board
+     */
+    public Board(Board board, Position ballPosition) throws IllegalArgumentException {
+        this.size = board.size;
+        this.walls = board.walls;
+        if (!isValidPosition(ballPosition)) {
+            throw new IllegalArgumentException("Position is outside the bounds of the board");
         }
-    }
-
-    private void addWalls() {
-        addWallToSquare(new Position(0, 0), Direction.RIGHT);
-        addWallToSquare(new Position(0, 3), Direction.RIGHT);
-        addWallToSquare(new Position(0, 2), Direction.DOWN);
-        addWallToSquare(new Position(0, 6), Direction.DOWN);
-        addWallToSquare(new Position(2, 1), Direction.DOWN);
-        addWallToSquare(new Position(2, 2), Direction.RIGHT);
-        addWallToSquare(new Position(2, 6), Direction.LEFT);
-        addWallToSquare(new Position(3, 3), Direction.DOWN);
-        addWallToSquare(new Position(3, 3), Direction.RIGHT);
-        addWallToSquare(new Position(3, 4), Direction.RIGHT);
-        addWallToSquare(new Position(4, 0), Direction.DOWN);
-        addWallToSquare(new Position(4, 4), Direction.DOWN);
-        addWallToSquare(new Position(4, 6), Direction.UP);
-        addWallToSquare(new Position(5, 2), Direction.LEFT);
-        addWallToSquare(new Position(5, 2), Direction.DOWN);
-        addWallToSquare(new Position(5, 2), Direction.RIGHT);
-        addWallToSquare(new Position(6, 3), Direction.RIGHT);
-        addWallToSquare(new Position(6, 5), Direction.RIGHT);
-    }
-
-    private void addWallToSquare(Position position, Direction direction) {
-        Square square = getSquare(position);
-        square.setWall(direction);
-        addWallToAdjacentSquare(position, direction);
-    }
-
-    private void addWallToAdjacentSquare(Position position, Direction direction){
-        if (hasAdjacentSquare(position, direction)){
-            Position neighbourPosition = position.getAdjacentPosition(direction);
-            Square neighbourSquare = getSquare(neighbourPosition);
-            Direction oppositeDirection = direction.oppositeDirection();
-            neighbourSquare.setWall(oppositeDirection);
+        this.goal = board.goal;
+        this.ball = ballPosition;
+        this.destinations = board.destinations;
+        this.destinationsModCount = board.destinationsModCount;
+    }
+
+    private static WallGrid createWalls() {
+        WallGrid walls = new WallGrid(DEFAULT_SIZE);
+        addWallToSquare(walls, Position.of(0, 0), Direction.RIGHT);
+        addWallToSquare(walls, Position.of(0, 3), Direction.RIGHT);
+        addWallToSquare(walls, Position.of(0, 2), Direction.DOWN);
+        addWallToSquare(walls, Position.of(0, 6), Direction.DOWN);
+        addWallToSquare(walls, Position.of(2, 1), Direction.DOWN);
+        addWallToSquare(walls, Position.of(2, 2), Direction.RIGHT);
+        addWallToSquare(walls, Position.of(2, 6), Direction.LEFT);
+        addWallToSquare(walls, Position.of(3, 3), Direction.DOWN);
+        addWallToSquare(walls, Position.of(3, 3), Direction.RIGHT);
+        addWallToSquare(walls, Position.of(3, 4), Direction.RIGHT);
+        addWallToSquare(walls, Position.of(4, 0), Direction.DOWN);
+        addWallToSquare(walls, Position.of(4, 4), Direction.DOWN);
+        addWallToSquare(walls, Position.of(4, 6), Direction.UP);
+        addWallToSquare(walls, Position.of(5, 2), Direction.LEFT);
+        addWallToSquare(walls, Position.of(5, 2), Direction.DOWN);
+        addWallToSquare(walls, Position.of(5, 2), Direction.RIGHT);
+        addWallToSquare(walls, Position.of(6, 3), Direction.RIGHT);
+        addWallToSquare(walls, Position.of(6, 5), Direction.RIGHT);
+        return walls;
+    }
+    private void buildDestinations() {
+        int[] table = new int[walls.getCellCount() * DIRECTIONS.length];
+        int goalCell = walls.cellOf(goal.row(), goal.col());
+        for (Direction direction : DIRECTIONS) {
+            int step = direction.getRowChange() * size + direction.getColChange();
+            // Visit the cells so that the neighbour in the direction of the slide is always done first.
+            boolean reverse = step > 0;
+            for (int i = 0; i < walls.getCellCount(); i++) {
+                int cell = reverse ? walls.getCellCount() - 1 - i : i;
+                int index = cell * DIRECTIONS.length + direction.ordinal();
+                if (cell == goalCell || walls.hasWall(cell, direction)) {
+                    table[index] = cell;
+                } else {
+                    table[index] = table[(cell + step) * DIRECTIONS.length + direction.ordinal()];
+                }
+            }
         }
+        destinations = table;
+        destinationsModCount = walls.getModCount();
     }
 
-    private boolean hasAdjacentSquare(Position position, Direction direction){
-        Position neighbour = position.getAdjacentPosition(direction);
-        return isValidPosition(neighbour);
+    private static void addWallToSquare(WallGrid walls, Position position, Direction direction) {
+        walls.addWall(position.row(), position.col(), direction);
     }
 
     private boolean isValidPosition(Position position) {
@@ -127,6 +158,15 @@ public class Board {
         return steps;
     }
 
+    /**
+     * Retrieves the walls of the board.
+     *
+     * @return the wall grid of the labyrinth
+     */
+    public WallGrid getWalls() {
+        return walls;
+    }
+
     /**
      * Retrieves a square of a given position of the board.
      *
@@ -140,7 +180,7 @@ public class Board {
             Logger.error(errorMessage);
             throw new IllegalArgumentException(errorMessage);
         }
-        return squares[position.row()][position.col()];
+        return new Square(walls, walls.cellOf(position.row(), position.col()));
     }
 
     /**
@@ -150,11 +190,8 @@ public class Board {
      * @return true if the ball can move otherwise false
      */
     public boolean canMove(Direction direction) {
-        Square currentSquare = this.getSquare(ball);
-        if (isGameOver()) {
-            return false;
-        }
-        return wallCheck(direction, currentSquare);
+        int cell = walls.cellOf(ball.row(), ball.col());
+        return slide(cell, direction) != cell;
     }
 
     /**
@@ -170,28 +207,36 @@ public class Board {
         return gameOver;
     }
 
-    private boolean wallCheck(Direction direction, Square square){
-        return switch (direction) {
-            case UP -> !square.hasWall(Direction.UP);
-            case RIGHT -> !square.hasWall(Direction.RIGHT);
-            case DOWN -> !square.hasWall(Direction.DOWN);
-            case LEFT -> !square.hasWall(Direction.LEFT);
-        };
-    }
-
     /**
      * Moves the ball in the given direction until it hits a wall.
      *
      * @param direction The direction in which to move the ball.
      */
     public void move(Direction direction) {
-        while(canMove(direction)) {
-            Position newPosition = ball.getAdjacentPosition(direction);
-            ball.setPosition(newPosition);
-        }
+        int cell = slide(walls.cellOf(ball.row(), ball.col()), direction);
+        ball = Position.of(cell / size, cell % size);
         steps++;
-        Logger.info("Moving in direction: {}", direction);
-        Logger.info("Movement finished. Final position: {}", ball);
-        Logger.info("Total steps taken: {}", steps);
+        if (Logger.isTraceEnabled()) {
+            Logger.trace("Moving in direction: {}", direction);
+            Logger.trace("Movement finished. Final position: {}", ball);
+            Logger.trace("Total steps taken: {}", steps);
+        }
+    }
+
+    /**
+     * Computes the cell where the ball stops when it starts from the given cell in the given direction.
+     * The ball stops when it bumps into a wall or reaches the goal. This method does not change the
+     * state of the board and does not allocate.
+     * The result is looked up in a table that is rebuilt whenever the walls change.
+     *
+     * @param cell the index of the starting cell
+     * @param direction the direction in which the ball moves
+     * @return the index of the cell where the ball stops
+     */
+    public int slide(int cell, Direction direction) {
+        if (destinationsModCount != walls.getModCount()) {
+            buildDestinations();
+        }
+        return destinations[cell * DIRECTIONS.length + direction.ordinal()];
     }
 }
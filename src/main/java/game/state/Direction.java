@@ -11,10 +11,12 @@ public enum Direction {
 
     private final int rowChange;
     private final int colChange;
+    private final int mask;
 
     Direction(int rowChange, int colChange) {
         this.rowChange = rowChange;
         this.colChange = colChange;
+        this.mask = 1 << ordinal();
     }
 
     /**
@@ -32,6 +34,14 @@ public enum Direction {
         return colChange;
     }
 
+    /**
+     * {@return the bit that represents a wall in this direction in a wall
+     * mask}
+     */
+    public int getMask() {
+        return mask;
+    }
+
     /**
      * {@return the direction that corresponds to the coordinate changes
      * specified}
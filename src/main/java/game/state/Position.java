@@ -1,50 +1,35 @@
 package game.state;
 
-import java.util.Objects;
-
 /**
- * Represents a 2D position.
+ * Represents an immutable 2D position. The positions of small boards are shared instances, see
+ * {@link #of(int, int)}, and can be shared between threads.
+ *
+ * @param row the row coordinate of the position
+ * @param col the column coordinate of the position
  */
-public class Position implements Cloneable {
-    private int row;
-    private int col;
+public record Position(int row, int col) {
+    private static final int CACHE_SIZE = 64;
+    private static final Position[] CACHE = new Position[CACHE_SIZE * CACHE_SIZE];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Position(i / CACHE_SIZE, i % CACHE_SIZE);
+        }
+    }
 
     /**
-     * Creates a {@code Position} object.
+     * Returns the position with the given coordinates. The positions of boards up to 64 rows and
+     * columns are preallocated, so no object is created for them.
      *
      * @param row the row coordinate of the position
      * @param col the column coordinate of the position
+     * @return the position
      */
-    public Position(int row, int col) {
-        this.row = row;
-        this.col = col;
-    }
-
-    /**
-     * {@return the row coordinate of the position}
-     */
-    public int row() {
-        return row;
-    }
-
-    /**
-     * {@return the column coordinate of the position}
-     */
-    public int col() {
-        return col;
-    }
-
-    private void setRow(int row) {
-        this.row = row;
-    }
-
-    private void setCol(int col) {
-        this.col = col;
-    }
-
-    public void setPosition(Position newPosition) {
-        this.setCol(newPosition.col());
-        this.setRow(newPosition.row());
+    public static Position of(int row, int col) {
+        if (row >= 0 && row < CACHE_SIZE && col >= 0 && col < CACHE_SIZE) {
+            return CACHE[row * CACHE_SIZE + col];
+        }
+        return new Position(row, col);
     }
 
     /**
@@ -54,12 +39,7 @@ public class Position implements Cloneable {
      * {@return the adjacent position}
      */
     public Position getAdjacentPosition(Direction direction) {
-        return switch (direction) {
-            case UP -> new Position(row - 1, col);
-            case RIGHT -> new Position(row, col + 1);
-            case DOWN -> new Position(row + 1, col);
-            case LEFT -> new Position(row, col - 1);
-        };
+        return of(row + direction.getRowChange(), col + direction.getColChange());
     }
 
     /**
@@ -81,21 +61,7 @@ public class Position implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
-    }
-
-    /**
-     * {@return the shallow copy of the current {@code Position} object}
-     */
-    @Override
-    public Position clone() {
-        Position copy;
-        try {
-            copy = (Position) super.clone();
-        } catch (CloneNotSupportedException e) {
-            throw new AssertionError(); // never happens
-        }
-        return copy;
+        return 31 * row + col;
     }
 
     /**
@@ -105,4 +71,4 @@ public class Position implements Cloneable {
     public String toString() {
         return String.format("(%d,%d)", row, col);
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,22 @@
 package game.state;
 
-import org.tinylog.Logger;
-
 /**
- * Represents a square on the board.
+ * Represents a square on the board. A square is a view of one cell of a {@link WallGrid}.
  */
 public class Square {
-    private boolean topWall;
-    private boolean rightWall;
-    private boolean bottomWall;
-    private boolean leftWall;
+    private final WallGrid walls;
+    private final int cell;
 
     /**
-     * Creates a new instance of the {@code Square} class at the given position.
+     * Creates a new instance of the {@code Square} class without any walls.
      */
     public Square() {
-        this.topWall = false;
-        this.rightWall = false;
-        this.bottomWall = false;
-        this.leftWall = false;
+        this(new WallGrid(1), 0);
+    }
+
+    Square(WallGrid walls, int cell) {
+        this.walls = walls;
+        this.cell = cell;
     }
 
     /**
@@ -28,12 +26,7 @@ public class Square {
      * {@return true if there is a wall in the specified direction, false otherwise}
      */
     public boolean hasWall(Direction direction) {
-        return switch (direction) {
-            case UP -> topWall;
-            case RIGHT -> rightWall;
-            case DOWN -> bottomWall;
-            case LEFT -> leftWall;
-        };
+        return walls.hasWall(cell, direction);
     }
 
     /**
@@ -42,36 +35,7 @@ public class Square {
      * @param direction the direction in which to set the wall
      */
     public void setWall(Direction direction) {
-        switch (direction) {
-            case UP -> {
-                this.setTopWall();
-            }
-            case RIGHT -> {
-                this.setRightWall();
-            }
-            case DOWN -> {
-                this.setBottomWall();
-            }
-            case LEFT -> {
-                this.setLeftWall();
-            }
-        }
-    }
-
-    private void setTopWall() {
-        this.topWall = true;
-    }
-
-    private void setRightWall() {
-        this.rightWall = true;
-    }
-
-    private void setBottomWall() {
-        this.bottomWall = true;
-    }
-
-    private void setLeftWall() {
-        this.leftWall = true;
+        walls.setWall(cell, direction);
     }
 
 }
@@ -0,0 +1,119 @@
+package game.state;
+
+/**
+ * Stores the walls of a square labyrinth in a single array, using four bits for every cell.
+ * Cells are addressed by their index {@code row * size + col}.
+ */
+public class WallGrid {
+    private static final int BITS_PER_CELL = 4;
+    private static final int CELL_MASK = 0xF;
+
+    private final int size;
+    private final byte[] walls;
+    private int modCount = 0;
+
+    /**
+     * Creates a {@code WallGrid} object without any walls.
+     *
+     * @param size the number of rows and columns of the labyrinth
+     * @throws IllegalArgumentException when the size is not positive
+     */
+    public WallGrid(int size) throws IllegalArgumentException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive: " + size);
+        }
+        this.size = size;
+        this.walls = new byte[(size * size + 1) / 2];
+    }
+
+    /**
+     * {@return the number of rows and columns of the labyrinth}
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * {@return the number of cells of the labyrinth}
+     */
+    public int getCellCount() {
+        return size * size;
+    }
+
+    /**
+     * {@return the index of the cell at the given coordinates}
+     *
+     * @param row the row coordinate of the cell
+     * @param col the column coordinate of the cell
+     */
+    public int cellOf(int row, int col) {
+        return row * size + col;
+    }
+
+    /**
+     * {@return the walls of the given cell as a mask of {@link Direction#getMask()} bits}
+     *
+     * @param cell the index of the cell
+     */
+    public int getWalls(int cell) {
+        return (walls[cell >> 1] >> ((cell & 1) * BITS_PER_CELL)) & CELL_MASK;
+    }
+
+    /**
+     * Returns whether the given cell has a wall in the specified direction.
+     *
+     * @param cell the index of the cell
+     * @param direction the direction to check for a wall
+     * @return true if there is a wall in the specified direction, false otherwise
+     */
+    public boolean hasWall(int cell, Direction direction) {
+        return (getWalls(cell) & direction.getMask()) != 0;
+    }
+
+    /**
+     * Sets the wall in the specified direction of the given cell.
+     *
+     * @param cell the index of the cell
+     * @param direction the direction in which to set the wall
+     */
+    public void setWall(int cell, Direction direction) {
+        walls[cell >> 1] |= (byte) (direction.getMask() << ((cell & 1) * BITS_PER_CELL));
+        modCount++;
+    }
+
+    /**
+     * Sets the wall in the specified direction of the given cell and the matching wall of the
+     * neighbouring cell, if there is one.
+     *
+     * @param row the row coordinate of the cell
+     * @param col the column coordinate of the cell
+     * @param direction the direction in which to set the wall
+     */
+    public void addWall(int row, int col, Direction direction) {
+        setWall(cellOf(row, col), direction);
+        int neighbourRow = row + direction.getRowChange();
+        int neighbourCol = col + direction.getColChange();
+        if (neighbourRow >= 0 && neighbourRow < size && neighbourCol >= 0 && neighbourCol < size) {
+            setWall(cellOf(neighbourRow, neighbourCol), direction.oppositeDirection());
+        }
+    }
+
+    /**
+     * Sets the walls along the outside edges of the labyrinth.
+     */
+    public void addOutsideBorders() {
+        for (var i = 0; i < size; i++) {
+            setWall(cellOf(0, i), Direction.UP);
+            setWall(cellOf(size - 1, i), Direction.DOWN);
+            setWall(cellOf(i, 0), Direction.LEFT);
+            setWall(cellOf(i, size - 1), Direction.RIGHT);
+        }
+    }
+
+    /**
+     * {@return a counter that changes every time a wall is set}
+     */
+    public int getModCount() {
+        return modCount;
+    }
+}
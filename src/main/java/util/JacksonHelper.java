@@ -1,14 +1,32 @@
 package util;
 
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Helper class for reading and writing a list of objects to JSON.
@@ -20,6 +38,17 @@ public class JacksonHelper {
             .enable(SerializationFeature.INDENT_OUTPUT)
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
 
+    private static final ObjectWriter COMPACT_WRITER = MAPPER.writer()
+            .without(SerializationFeature.INDENT_OUTPUT);
+
+    private static final int TAIL_SIZE = 256;
+    private static final byte[] EMPTY = {};
+    private static final byte[] SPACE = " ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMMA = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMMA_SPACE = ", ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BRACKET = "]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SPACE_BRACKET = " ]".getBytes(StandardCharsets.UTF_8);
+
     /**
      * Deserializes a list of objects from JSON.
      *
@@ -43,7 +72,203 @@ public class JacksonHelper {
      * @throws IOException if any I/O error occurs
      */
     public static <T> void writeList(OutputStream out, List<T> list) throws IOException {
-        MAPPER.writeValue(out, list);
+        writeList(out, list, true);
+    }
+
+    /**
+     * Serializes a list of objects to JSON.
+     *
+     * @param out the output stream to which JSON data will be written
+     * @param list the list of objects to be serialized
+     * @param pretty whether the output is indented or compact
+     * @param <T> the type of the list elements
+     * @throws IOException if any I/O error occurs
+     */
+    public static <T> void writeList(OutputStream out, List<T> list, boolean pretty) throws IOException {
+        writer(pretty).writeValue(out, list);
+    }
+
+    /**
+     * Deserializes a JSON array lazily, one element at a time. The returned stream has to be closed,
+     * which also closes the input stream.
+     *
+     * @param in the input stream from which JSON data will be read
+     * @param elementClass represents the class of the elements
+     * @param <T> the type of the elements
+     * @return the stream of the objects deserialized from JSON
+     * @throws IOException if any I/O error occurs
+     */
+    public static <T> Stream<T> streamList(InputStream in, Class<T> elementClass) throws IOException {
+        MappingIterator<T> iterator = MAPPER.readerFor(elementClass).readValues(in);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Creates a writer that serializes the elements of a JSON array one at a time. Closing the writer
+     * terminates the array.
+     *
+     * @param out the output stream to which JSON data will be written
+     * @param pretty whether the output is indented or compact
+     * @return the writer of the elements
+     * @throws IOException if any I/O error occurs
+     */
+    public static SequenceWriter listWriter(OutputStream out, boolean pretty) throws IOException {
+        return writer(pretty).writeValuesAsArray(out);
+    }
+
+    /**
+     * Appends objects to the JSON array stored in a file without reading the rest of the array.
+     * The file is created if it does not exist.
+     * <p>
+     * The array stays valid if the process stops while appending. The new elements are first written
+     * behind the closing bracket, where readers ignore them. Then a single short write replaces the
+     * closing bracket and the whitespace before it. Until that write is done, a {@code .append} file
+     * next to the array records where the bracket is, so that the next append can cut off the
+     * elements an interrupted append left behind it.
+     *
+     * @param path the path of the file that holds the array
+     * @param list the objects to be appended
+     * @param pretty whether the appended objects are indented or compact
+     * @param <T> the type of the list elements
+     * @throws IOException if any I/O error occurs or the file does not end with a JSON array
+     */
+    public static <T> void appendToList(Path path, List<T> list, boolean pretty) throws IOException {
+        if (!Files.exists(path)) {
+            Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(),
+                    ".tmp");
+            try {
+                try (var out = Files.newOutputStream(temp)) {
+                    writeList(out, list, pretty);
+                }
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return;
+        }
+        Path journal = path.resolveSibling(path.getFileName() + ".append");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (Files.exists(journal)) {
+                recover(channel, journal);
+            }
+            long size = channel.size();
+            int length = (int) Math.min(size, TAIL_SIZE);
+            byte[] tail = read(channel, size - length, length);
+            int end = lastNonWhitespace(tail, length);
+            int previous = end < 0 ? -1 : lastNonWhitespace(tail, end);
+            // The tail is read again, twice as long, only when it is mostly whitespace.
+            while (previous < 0 && length < size) {
+                length = (int) Math.min(size, 2L * length);
+                tail = read(channel, size - length, length);
+                end = lastNonWhitespace(tail, length);
+                previous = end < 0 ? -1 : lastNonWhitespace(tail, end);
+            }
+            if (previous < 0 || tail[end] != ']') {
+                throw new IOException("Not a JSON array: " + path);
+            }
+            boolean empty = tail[previous] == '[';
+            ObjectWriter writer = writer(pretty);
+            var buffer = new ByteArrayOutputStream();
+            for (T element : list) {
+                if (empty) {
+                    buffer.write(pretty ? SPACE : EMPTY);
+                } else {
+                    buffer.write(pretty ? COMMA_SPACE : COMMA);
+                }
+                writer.writeValue(buffer, element);
+                empty = false;
+            }
+            buffer.write(pretty ? SPACE_BRACKET : BRACKET);
+            byte[] bytes = buffer.toByteArray();
+            long offset = size - length;
+            // Whitespace before the bracket that is longer than the new tail is kept.
+            long start = offset + Math.max(previous + 1, end + 1 - bytes.length);
+            int committed = (int) (offset + end + 1 - start);
+            Files.writeString(journal, Long.toString(offset + end), StandardCharsets.UTF_8);
+            write(channel, ByteBuffer.wrap(bytes, committed, bytes.length - committed), offset + end + 1);
+            write(channel, ByteBuffer.wrap(bytes, 0, committed), start);
+            channel.truncate(start + bytes.length);
+            Files.delete(journal);
+        }
+    }
+
+    /**
+     * Cuts off what an interrupted append left behind the closing bracket of the array.
+     */
+    private static void recover(FileChannel channel, Path journal) throws IOException {
+        try {
+            long end = Long.parseLong(Files.readString(journal, StandardCharsets.UTF_8).trim());
+            // The bracket is only replaced by the write that completes the append.
+            if (end < channel.size() && read(channel, end, 1)[0] == ']') {
+                channel.truncate(end + 1);
+            }
+        } catch (NumberFormatException e) {
+            // The append stopped while the journal was written, before the array was changed.
+        }
+        Files.delete(journal);
+    }
+
+    private static ObjectWriter writer(boolean pretty) {
+        return pretty ? MAPPER.writer() : COMPACT_WRITER;
+    }
+
+    private static int lastNonWhitespace(byte[] bytes, int before) {
+        for (int i = before - 1; i >= 0; i--) {
+            if (bytes[i] != ' ' && bytes[i] != '\t' && bytes[i] != '\n' && bytes[i] != '\r') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file at " + (position + buffer.position()));
+            }
+        }
+        return buffer.array();
+    }
+
+    private static void write(FileChannel channel, ByteBuffer bytes, long position) throws IOException {
+        while (bytes.hasRemaining()) {
+            position += channel.write(bytes, position);
+        }
+    }
+
+    /**
+     * Serializes an object to a single line of JSON terminated by a newline character.
+     *
+     * @param value the object to be serialized
+     * @return the UTF-8 encoded line
+     * @throws IOException if any I/O error occurs
+     */
+    public static byte[] writeLine(Object value) throws IOException {
+        byte[] json = COMPACT_WRITER.writeValueAsBytes(value);
+        byte[] line = Arrays.copyOf(json, json.length + 1);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    /**
+     * Deserializes an object from a single line of JSON.
+     *
+     * @param line the line of JSON
+     * @param valueClass represents the class of the object
+     * @param <T> the type of the object
+     * @return the object deserialized from JSON
+     * @throws IOException if the line is not valid JSON
+     */
+    public static <T> T readLine(String line, Class<T> valueClass) throws IOException {
+        return MAPPER.readValue(line, valueClass);
     }
 
 }
\ No newline at end of file
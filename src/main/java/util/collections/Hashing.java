@@ -0,0 +1,22 @@
+package util.collections;
+
+/**
+ * The hash function of the open-addressing tables.
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * Spreads the bits of a value, so that consecutive cells do not fill consecutive slots.
+     *
+     * @param value the value to hash
+     * @param mask the table size minus one, where the table size is a power of two
+     * @return the first slot to probe
+     */
+    static int slot(int value, int mask) {
+        int hash = value * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
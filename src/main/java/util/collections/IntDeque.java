@@ -0,0 +1,145 @@
+package util.collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A double-ended queue of {@code int} values stored in a ring buffer that grows when it is full. Used
+ * as the queue of a breadth-first search it needs no allocation once it has grown to the size of the
+ * frontier.
+ */
+public class IntDeque {
+    private int[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty {@code IntDeque} object.
+     */
+    public IntDeque() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty {@code IntDeque} object that holds the given number of values without growing.
+     *
+     * @param capacity the initial capacity
+     * @throws IllegalArgumentException when the capacity is negative
+     */
+    public IntDeque(int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        elements = new int[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Adds a value to the front of the deque.
+     *
+     * @param value the value to add
+     */
+    public void addFirst(int value) {
+        ensureCapacity();
+        head = head == 0 ? elements.length - 1 : head - 1;
+        elements[head] = value;
+        size++;
+    }
+
+    /**
+     * Adds a value to the back of the deque.
+     *
+     * @param value the value to add
+     */
+    public void addLast(int value) {
+        ensureCapacity();
+        elements[index(size)] = value;
+        size++;
+    }
+
+    /**
+     * Removes the value at the front of the deque.
+     *
+     * @return the removed value
+     * @throws NoSuchElementException when the deque is empty
+     */
+    public int removeFirst() throws NoSuchElementException {
+        int value = getFirst();
+        head = index(1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Removes the value at the back of the deque.
+     *
+     * @return the removed value
+     * @throws NoSuchElementException when the deque is empty
+     */
+    public int removeLast() throws NoSuchElementException {
+        int value = getLast();
+        size--;
+        return value;
+    }
+
+    /**
+     * {@return the value at the front of the deque}
+     *
+     * @throws NoSuchElementException when the deque is empty
+     */
+    public int getFirst() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        return elements[head];
+    }
+
+    /**
+     * {@return the value at the back of the deque}
+     *
+     * @throws NoSuchElementException when the deque is empty
+     */
+    public int getLast() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        return elements[index(size - 1)];
+    }
+
+    /**
+     * {@return the number of values in the deque}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return whether the deque is empty}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values but keeps the buffer.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private int index(int offset) {
+        int index = head + offset;
+        return index < elements.length ? index : index - elements.length;
+    }
+
+    private void ensureCapacity() {
+        if (size < elements.length) {
+            return;
+        }
+        int[] grown = new int[elements.length * 2];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+}
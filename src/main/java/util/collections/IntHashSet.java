@@ -0,0 +1,134 @@
+package util.collections;
+
+import java.util.Arrays;
+
+/**
+ * A set of {@code int} values stored in an open-addressing hash table with linear probing. Values
+ * can only be added, which is all a search needs, and the set can be cleared to be reused.
+ */
+public class IntHashSet {
+    private static final int EMPTY = Integer.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] table;
+    private int mask;
+    private int size;
+    private boolean containsEmpty;
+
+    /**
+     * Creates an empty {@code IntHashSet} object.
+     */
+    public IntHashSet() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Creates an empty {@code IntHashSet} object that holds the given number of values without growing.
+     *
+     * @param expectedSize the expected number of values
+     * @throws IllegalArgumentException when the expected size is negative
+     */
+    public IntHashSet(int expectedSize) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        allocate(tableSize(expectedSize));
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value the value to add
+     * @return true if the value was not in the set yet
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            if (containsEmpty) {
+                return false;
+            }
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+        int slot = Hashing.slot(value, mask);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        size++;
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a value is in the set.
+     *
+     * @param value the value to look for
+     * @return true if the value is in the set
+     */
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+        int slot = Hashing.slot(value, mask);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * {@return the number of values in the set}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return whether the set is empty}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values but keeps the table.
+     */
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        size = 0;
+        containsEmpty = false;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = table;
+        allocate(capacity);
+        for (int value : old) {
+            if (value != EMPTY) {
+                int slot = Hashing.slot(value, mask);
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        mask = capacity - 1;
+    }
+
+    static int tableSize(int expectedSize) {
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1);
+    }
+}
@@ -0,0 +1,180 @@
+package util.collections;
+
+import java.util.Arrays;
+
+/**
+ * A map from {@code int} keys to {@code int} values, such as the distances of the cells a search has
+ * reached, stored in an open-addressing hash table with linear probing. Keys can only be added or
+ * updated, and the map can be cleared to be reused.
+ */
+public class IntIntHashMap {
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private final int missingValue;
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean containsEmpty;
+    private int emptyValue;
+
+    /**
+     * Creates an empty {@code IntIntHashMap} object.
+     *
+     * @param missingValue the value returned for the keys that are not in the map
+     */
+    public IntIntHashMap(int missingValue) {
+        this(missingValue, 8);
+    }
+
+    /**
+     * Creates an empty {@code IntIntHashMap} object that holds the given number of keys without growing.
+     *
+     * @param missingValue the value returned for the keys that are not in the map
+     * @param expectedSize the expected number of keys
+     * @throws IllegalArgumentException when the expected size is negative
+     */
+    public IntIntHashMap(int missingValue, int expectedSize) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        this.missingValue = missingValue;
+        allocate(IntHashSet.tableSize(expectedSize));
+    }
+
+    /**
+     * Maps a key to a value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value of the key, or the missing value if the key was not in the map
+     */
+    public int put(int key, int value) {
+        if (key == EMPTY) {
+            int previous = containsEmpty ? emptyValue : missingValue;
+            if (!containsEmpty) {
+                containsEmpty = true;
+                size++;
+            }
+            emptyValue = value;
+            return previous;
+        }
+        int slot = Hashing.slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return missingValue;
+    }
+
+    /**
+     * Maps a key to a value if the key is not in the map yet.
+     *
+     * @param key the key
+     * @param value the value
+     * @return true if the key was added
+     */
+    public boolean putIfAbsent(int key, int value) {
+        if (containsKey(key)) {
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+
+    /**
+     * Retrieves the value of a key.
+     *
+     * @param key the key
+     * @return the value of the key, or the missing value if the key is not in the map
+     */
+    public int get(int key) {
+        if (key == EMPTY) {
+            return containsEmpty ? emptyValue : missingValue;
+        }
+        int slot = Hashing.slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    /**
+     * Checks whether a key is in the map.
+     *
+     * @param key the key
+     * @return true if the key is in the map
+     */
+    public boolean containsKey(int key) {
+        if (key == EMPTY) {
+            return containsEmpty;
+        }
+        int slot = Hashing.slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * {@return the number of keys in the map}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return whether the map is empty}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys but keeps the table.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        containsEmpty = false;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = Hashing.slot(oldKeys[i], mask);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+}
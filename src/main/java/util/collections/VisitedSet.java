@@ -0,0 +1,85 @@
+package util.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The set of visited cells of a search over a board, with one bit per cell. Clearing it only touches
+ * the words that were used, so it can be reused for many small searches on a large board.
+ */
+public class VisitedSet {
+    private long[] words;
+    private int cellCount;
+    private int firstUsed;
+    private int lastUsed = -1;
+
+    /**
+     * Creates an empty {@code VisitedSet} object.
+     *
+     * @param cellCount the number of cells of the board
+     * @throws IllegalArgumentException when the number of cells is negative
+     */
+    public VisitedSet(int cellCount) throws IllegalArgumentException {
+        if (cellCount < 0) {
+            throw new IllegalArgumentException("Cell count must not be negative: " + cellCount);
+        }
+        this.cellCount = cellCount;
+        words = new long[wordCount(cellCount)];
+        firstUsed = words.length;
+    }
+
+    /**
+     * Marks a cell as visited.
+     *
+     * @param cell the index of the cell
+     * @return true if the cell was not visited yet
+     * @throws IndexOutOfBoundsException when the cell is not on the board
+     */
+    public boolean visit(int cell) throws IndexOutOfBoundsException {
+        int word = Objects.checkIndex(cell, cellCount) >>> 6;
+        long bit = 1L << cell;
+        long old = words[word];
+        if ((old & bit) != 0) {
+            return false;
+        }
+        words[word] = old | bit;
+        firstUsed = Math.min(firstUsed, word);
+        lastUsed = Math.max(lastUsed, word);
+        return true;
+    }
+
+    /**
+     * Checks whether a cell was visited.
+     *
+     * @param cell the index of the cell
+     * @return true if the cell was visited
+     * @throws IndexOutOfBoundsException when the cell is not on the board
+     */
+    public boolean isVisited(int cell) throws IndexOutOfBoundsException {
+        return (words[Objects.checkIndex(cell, cellCount) >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Forgets the visited cells and makes room for the given number of cells.
+     *
+     * @param cellCount the number of cells of the board
+     * @throws IllegalArgumentException when the number of cells is negative
+     */
+    public void reset(int cellCount) throws IllegalArgumentException {
+        if (cellCount < 0) {
+            throw new IllegalArgumentException("Cell count must not be negative: " + cellCount);
+        }
+        this.cellCount = cellCount;
+        if (words.length < wordCount(cellCount)) {
+            words = new long[wordCount(cellCount)];
+        } else if (firstUsed <= lastUsed) {
+            Arrays.fill(words, firstUsed, lastUsed + 1, 0);
+        }
+        firstUsed = words.length;
+        lastUsed = -1;
+    }
+
+    private static int wordCount(int cellCount) {
+        return (cellCount + 63) >>> 6;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains collections of {@code int} values, such as the cells of a board, that store
+ * them in primitive arrays instead of boxing them.
+ */
+package util.collections;
@@ -0,0 +1,61 @@
+package game.engine;
+
+import game.result.GameResult;
+import game.result.JsonGameResultManager;
+import game.solver.BfsSolver;
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void move() {
+        var session = new GameSession(new Board(new Position(1, 4)), "player",
+                new JsonGameResultManager(dir.resolve("results.json")));
+        assertTrue(session.move(Direction.DOWN));
+        assertFalse(session.move(Direction.DOWN));
+        assertEquals(1, session.getSteps());
+        assertEquals(List.of(Direction.DOWN), session.getMoves());
+        assertFalse(session.isSolved());
+    }
+
+    @Test
+    void reset() {
+        Board labyrinth = new Board(new Position(1, 4));
+        var session = new GameSession(labyrinth, "player", new JsonGameResultManager(dir.resolve("results.json")));
+        session.move(Direction.DOWN);
+        session.reset();
+        assertEquals(new Position(1, 4), session.getBoard().getBall());
+        assertEquals(new Position(1, 4), labyrinth.getBall());
+        assertEquals(0, session.getSteps());
+        assertEquals(List.of(), session.getMoves());
+    }
+
+    @Test
+    void replayAndSubmitResult() throws IOException {
+        Board labyrinth = new Board(new Position(1, 4));
+        var results = new JsonGameResultManager(dir.resolve("results.json"));
+        var session = new GameSession(labyrinth, "player", results);
+        assertThrows(IllegalStateException.class, session::submitResult);
+        List<Direction> solution = new BfsSolver().solve(labyrinth).orElseThrow().getMoves();
+        assertEquals(solution.size(), session.replay(solution));
+        assertTrue(session.isSolved());
+        GameResult result = session.submitResult();
+        assertEquals("player", result.getPlayerName());
+        assertEquals(solution.size(), result.getSteps());
+        assertEquals(1, results.getAll().size());
+        assertEquals(result.getCreated().toInstant(), results.getAll().get(0).getCreated().toInstant());
+    }
+}
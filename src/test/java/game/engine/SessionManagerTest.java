@@ -0,0 +1,112 @@
+package game.engine;
+
+import game.result.JsonGameResultManager;
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tinylog.Logger;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionManagerTest {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void move() throws Exception {
+        try (var manager = new SessionManager(new Board(new Position(1, 4)), results(), 2)) {
+            long id = manager.open("player");
+            assertTrue(manager.move(id, Direction.DOWN).get());
+            assertFalse(manager.move(id, Direction.DOWN).get());
+            assertEquals(new Position(4, 4), manager.submit(id, session -> session.getBoard().getBall()).get());
+            assertEquals(1, manager.size());
+            assertTrue(manager.close(id));
+            assertFalse(manager.close(id));
+            assertThrows(IllegalArgumentException.class, () -> manager.move(id, Direction.UP));
+        }
+    }
+
+    @Test
+    void submit_failure() {
+        try (var manager = new SessionManager(new Board(new Position(1, 4)), results(), 2)) {
+            long id = manager.open("player");
+            CompletableFuture<Object> future = manager.submit(id, session -> {
+                throw new IllegalStateException("failed");
+            });
+            assertThrows(Exception.class, future::get);
+            assertEquals(0, manager.submit(id, GameSession::getSteps).join());
+        }
+    }
+
+    /**
+     * Plays a random game in each of many sessions, with the moves of the sessions interleaved, and
+     * checks every session against the same game played alone.
+     */
+    @Test
+    void load() {
+        int sessions = 10_000;
+        int moves = 50;
+        Board labyrinth = new Board(new Position(1, 4));
+        List<List<Direction>> scripts = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            scripts.add(script(i, moves));
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[] {1, processors}) {
+            try (var manager = new SessionManager(labyrinth, results(), threads)) {
+                long[] ids = new long[sessions];
+                for (int i = 0; i < sessions; i++) {
+                    ids[i] = manager.open("player-" + i);
+                }
+                long start = System.nanoTime();
+                List<CompletableFuture<Boolean>> last = new ArrayList<>();
+                for (int move = 0; move < moves; move++) {
+                    last.clear();
+                    for (int i = 0; i < sessions; i++) {
+                        last.add(manager.move(ids[i], scripts.get(i).get(move)));
+                    }
+                }
+                last.forEach(CompletableFuture::join);
+                long elapsed = System.nanoTime() - start;
+                Logger.info("{} threads: {} moves/s", threads, (long) sessions * moves * 1_000_000_000L / elapsed);
+                for (int i = 0; i < sessions; i++) {
+                    Board expected = new Board(labyrinth, labyrinth.getBall());
+                    List<Direction> expectedMoves = new ArrayList<>();
+                    for (Direction direction : scripts.get(i)) {
+                        if (expected.canMove(direction)) {
+                            expected.move(direction);
+                            expectedMoves.add(direction);
+                        }
+                    }
+                    GameSession session = manager.submit(ids[i], s -> s).join();
+                    assertEquals(expected.getBall(), session.getBoard().getBall());
+                    assertEquals(expectedMoves, session.getMoves());
+                }
+            }
+        }
+        assertEquals(new Position(1, 4), labyrinth.getBall());
+    }
+
+    private static List<Direction> script(int session, int length) {
+        var random = new Random(session);
+        var script = new ArrayList<Direction>(length);
+        for (int i = 0; i < length; i++) {
+            script.add(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+        }
+        return script;
+    }
+
+    private JsonGameResultManager results() {
+        return new JsonGameResultManager(dir.resolve("results.json"));
+    }
+}
@@ -0,0 +1,56 @@
+package game.engine;
+
+import game.result.ConcurrentGameResultManager;
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void run_solver() throws IOException {
+        var results = new ConcurrentGameResultManager(dir.resolve("results.json"));
+        var simulation = new Simulation(new Board(new Position(1, 4)), session -> Player.solver(), 100);
+        SimulationReport report = simulation.run(4, 50, results);
+        assertEquals(50, report.getGames());
+        assertEquals(50, report.getSolved());
+        assertEquals(50 * 18, report.getMoves());
+        assertEquals(50, results.getAll().size());
+        assertTrue(results.getAll().stream().allMatch(result -> result.getSteps() == 18));
+    }
+
+    @Test
+    void run_random() {
+        var simulation = new Simulation(new Board(new Position(1, 4)), session -> Player.random(session), 20);
+        SimulationReport report = simulation.run(3, 100);
+        assertEquals(100, report.getGames());
+        assertTrue(report.getSolved() <= report.getGames());
+        assertTrue(report.getMoves() <= 100 * 20);
+    }
+
+    @Test
+    void run_scriptGivesUp() {
+        var simulation = new Simulation(new Board(new Position(1, 4)),
+                session -> Player.scripted(List.of(Direction.DOWN)), 100);
+        SimulationReport report = simulation.run(2, 10);
+        assertEquals(0, report.getSolved());
+        assertEquals(10, report.getMoves());
+    }
+
+    @Test
+    void run_invalidSessions() {
+        var simulation = new Simulation(new Board(new Position(1, 4)), session -> Player.solver(), 100);
+        assertThrows(IllegalArgumentException.class, () -> simulation.run(0, 10));
+    }
+}
@@ -0,0 +1,57 @@
+package game.generator;
+
+import game.solver.BfsSolver;
+import game.solver.Solution;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PuzzleSearchTest {
+
+    private final PuzzleSearch search = new PuzzleSearch(new RandomLabyrinthGenerator(), 4);
+
+    @Test
+    void search() {
+        PuzzleRequest request = PuzzleRequest.builder()
+                .minLength(8)
+                .maxLength(12)
+                .quota(5)
+                .seed(7)
+                .build();
+        PuzzleSearch.SearchResult result = search.search(request);
+        assertEquals(5, result.getPuzzles().size());
+        for (Puzzle puzzle : result.getPuzzles()) {
+            assertEquals(7, puzzle.getBoard().getSize());
+            int length = new BfsSolver().solve(puzzle.getBoard()).map(Solution::getLength).orElseThrow();
+            assertEquals(puzzle.getOptimalLength(), length);
+            assertTrue(length >= 8 && length <= 12);
+        }
+        SearchStatistics statistics = result.getStatistics();
+        assertTrue(statistics.getAccepted() >= 5);
+        assertTrue(statistics.getCandidates() >= statistics.getAccepted());
+        assertTrue(statistics.getAcceptanceRate() > 0 && statistics.getAcceptanceRate() <= 1);
+        assertTrue(statistics.getCandidatesPerSecond() > 0);
+    }
+
+    @Test
+    void search_candidateLimit() {
+        PuzzleRequest request = PuzzleRequest.builder()
+                .size(3)
+                .minLength(100)
+                .maxLength(200)
+                .quota(1)
+                .maxCandidates(500)
+                .build();
+        PuzzleSearch.SearchResult result = search.search(request);
+        assertTrue(result.getPuzzles().isEmpty());
+        assertEquals(500, result.getStatistics().getCandidates());
+        assertEquals(0, result.getStatistics().getAccepted());
+    }
+
+    @Test
+    void search_invalidRequest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> search.search(PuzzleRequest.builder().minLength(5).maxLength(4).quota(1).build()));
+        assertThrows(IllegalArgumentException.class, () -> new PuzzleSearch(new RandomLabyrinthGenerator(), 0));
+    }
+}
@@ -0,0 +1,69 @@
+package game.generator;
+
+import game.solver.BfsSolver;
+import game.state.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomLabyrinthGeneratorTest {
+
+    private final LabyrinthGenerator generator = new RandomLabyrinthGenerator();
+
+    @Test
+    void generate() {
+        for (int size : new int[] {2, 7, 20}) {
+            for (long seed = 0; seed < 50; seed++) {
+                Board board = generator.generate(size, seed);
+                assertEquals(size, board.getSize());
+                assertFalse(board.isGameOver());
+                assertTrue(new BfsSolver().solve(board).isPresent());
+            }
+        }
+    }
+
+    @Test
+    void generate_isDeterministic() {
+        Board board1 = generator.generate(7, 42);
+        Board board2 = generator.generate(7, 42);
+        assertEquals(board1.getBall(), board2.getBall());
+        assertEquals(board1.getGoal(), board2.getGoal());
+        for (int cell = 0; cell < board1.getWalls().getCellCount(); cell++) {
+            assertEquals(board1.getWalls().getWalls(cell), board2.getWalls().getWalls(cell));
+        }
+    }
+
+    @Test
+    void generate_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RandomLabyrinthGenerator(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new RandomLabyrinthGenerator(1));
+        assertThrows(IllegalArgumentException.class, () -> new RandomLabyrinthGenerator(-0.1));
+    }
+
+    @Test
+    void generate_densityCloseToOne() {
+        assertThrows(IllegalStateException.class, () -> new RandomLabyrinthGenerator(0.999999).generate(2, 0));
+        assertEquals(2, new RandomLabyrinthGenerator(0).generate(2, 0).getSize());
+    }
+
+    @Test
+    void stream() {
+        List<Board> boards = generator.stream(7, 1).limit(10).toList();
+        assertEquals(10, boards.size());
+        assertEquals(boards.get(3).getBall(), generator.stream(7, 1).skip(3).findFirst().orElseThrow().getBall());
+    }
+
+    @Test
+    void stream_parallel() {
+        List<String> sequential = generator.stream(20, 1).limit(16)
+                .map(board -> board.getBall() + " " + board.getGoal())
+                .toList();
+        List<String> parallel = generator.stream(20, 1).parallel().limit(16)
+                .map(board -> board.getBall() + " " + board.getGoal())
+                .toList();
+        assertEquals(sequential, parallel);
+    }
+}
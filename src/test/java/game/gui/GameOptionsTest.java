@@ -0,0 +1,31 @@
+package game.gui;
+
+import game.state.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameOptionsTest {
+
+    @Test
+    void of() {
+        GameOptions options = GameOptions.of(Map.of("renderer", "Canvas", "size", "1000", "seed", "42"));
+        assertEquals(new GameOptions(GameOptions.Renderer.CANVAS, 1000, 42), options);
+        assertEquals(GameOptions.Renderer.GRID, GameOptions.of(Map.of()).renderer());
+        assertEquals(0, GameOptions.of(Map.of()).size());
+        assertThrows(IllegalArgumentException.class, () -> GameOptions.of(Map.of("renderer", "svg")));
+        assertThrows(IllegalArgumentException.class, () -> GameOptions.of(Map.of("size", "1")));
+        assertThrows(IllegalArgumentException.class, () -> GameOptions.of(Map.of("seed", "x")));
+    }
+
+    @Test
+    void createBoard() {
+        assertEquals(new Position(1, 4), GameOptions.DEFAULT.createBoard().getBall());
+        assertEquals(7, GameOptions.DEFAULT.createBoard().getSize());
+        var options = new GameOptions(GameOptions.Renderer.CANVAS, 1000, 42);
+        assertEquals(1000, options.createBoard().getSize());
+        assertEquals(options.createBoard().getBall(), options.createBoard().getBall());
+    }
+}
@@ -0,0 +1,146 @@
+package game.gui;
+
+import game.result.GameResult;
+import game.result.GameResultManager;
+import game.result.ResultQuery;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagedResultListTest {
+
+    private static class CountingManager implements GameResultManager {
+        private final List<GameResult> results = new ArrayList<>();
+        private int queries = 0;
+
+        @Override
+        public void add(GameResult result) {
+            results.add(result);
+        }
+
+        @Override
+        public List<GameResult> getAll() {
+            return results;
+        }
+
+        @Override
+        public List<GameResult> query(ResultQuery query) throws IOException {
+            queries++;
+            return GameResultManager.super.query(query);
+        }
+    }
+
+    private static CountingManager manager(int count) {
+        var manager = new CountingManager();
+        for (int i = 0; i < count; i++) {
+            manager.add(GameResult.builder()
+                    .playerName("Player" + i)
+                    .steps(i)
+                    .created(ZonedDateTime.parse("2023-05-28T08:35:55.3839148Z"))
+                    .build());
+        }
+        return manager;
+    }
+
+    private static PagedResultList list(GameResultManager manager, ResultQuery query, int size) {
+        return new PagedResultList(manager, query, size, PagedResultListTest::loadNow, Runnable::run);
+    }
+
+    private static CompletableFuture<List<GameResult>> loadNow(Callable<List<GameResult>> task) {
+        try {
+            return CompletableFuture.completedFuture(task.call());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Test
+    void get() throws IOException {
+        CountingManager manager = manager(1000);
+        var list = list(manager, ResultQuery.builder().build(), 1000);
+        assertEquals(1000, list.size());
+        assertEquals(0, manager.queries);
+        assertEquals("Player0", list.get(0).getPlayerName());
+        assertEquals("Player99", list.get(99).getPlayerName());
+        assertEquals(1, manager.queries);
+        assertEquals("Player999", list.get(999).getPlayerName());
+        assertEquals(2, manager.queries);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1000));
+    }
+
+    @Test
+    void get_evictsPages() throws IOException {
+        CountingManager manager = manager(5000);
+        var list = list(manager, ResultQuery.builder().build(), 5000);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i).getSteps());
+        }
+        assertEquals(50, manager.queries);
+        list.get(4999);
+        assertEquals(50, manager.queries);
+        list.get(0);
+        assertEquals(51, manager.queries);
+    }
+
+    @Test
+    void get_fromOffset() {
+        var list = list(manager(1000), ResultQuery.page(250, 150), 150);
+        assertEquals(250, list.get(0).getSteps());
+        assertEquals(399, list.get(149).getSteps());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(150));
+    }
+
+    @Test
+    void get_loadsInBackground() {
+        CountingManager manager = manager(150);
+        List<Runnable> tasks = new ArrayList<>();
+        var list = new PagedResultList(manager, ResultQuery.builder().build(), 150, task -> {
+            var future = new CompletableFuture<List<GameResult>>();
+            tasks.add(() -> future.complete(assertDoesNotThrow(task::call)));
+            return future;
+        }, Runnable::run);
+        List<Integer> updated = new ArrayList<>();
+        list.addListener((ListChangeListener<GameResult>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasUpdated());
+                updated.add(change.getFrom());
+                updated.add(change.getTo());
+            }
+        });
+        assertNull(list.get(120));
+        assertNull(list.get(130));
+        assertEquals(1, tasks.size());
+        assertEquals(0, manager.queries);
+        tasks.get(0).run();
+        assertEquals(List.of(100, 150), updated);
+        assertEquals(120, list.get(120).getSteps());
+        assertEquals(1, manager.queries);
+    }
+
+    @Test
+    void formatCreated() {
+        var list = list(manager(10), ResultQuery.builder().build(), 10);
+        GameResult result = list.get(3);
+        assertSame(list.formatCreated(result), list.formatCreated(result));
+    }
+
+    @Test
+    void formatCreated_evictedPage() {
+        var list = list(manager(5000), ResultQuery.builder().build(), 5000);
+        GameResult result = list.get(0);
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i);
+        }
+        // Not cached again, since its page is gone.
+        assertEquals(list.formatCreated(result), list.formatCreated(result));
+        assertNotSame(list.formatCreated(result), list.formatCreated(result));
+    }
+}
@@ -0,0 +1,119 @@
+package game.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static game.result.TestResults.result;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryGameResultManagerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void add() throws IOException {
+        var manager = new BinaryGameResultManager(directory.resolve("results.bin"));
+        assertEquals(List.of(), manager.getAll());
+        assertEquals(0, manager.size());
+        GameResult vera = result("Vera", 18);
+        GameResult clara = result("Clara", 55, ZonedDateTime.parse("2023-05-28T08:59:19.0648073Z"));
+        manager.add(vera);
+        manager.add(clara);
+        manager.add(vera);
+        assertEquals(List.of(vera, clara, vera), manager.getAll());
+        assertEquals(3, manager.size());
+        assertEquals(clara, manager.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> manager.get(3));
+        assertEquals(List.of("Vera", "Clara"), Files.readAllLines(directory.resolve("results.bin.names")));
+        assertEquals(List.of(vera, clara, vera), new BinaryGameResultManager(directory.resolve("results.bin")).getAll());
+    }
+
+    @Test
+    void add_severalManagers() throws IOException {
+        var first = new BinaryGameResultManager(directory.resolve("results.bin"));
+        var second = new BinaryGameResultManager(directory.resolve("results.bin"));
+        GameResult vera = result("Vera", 18);
+        GameResult clara = result("Clara", 55, ZonedDateTime.parse("2023-05-28T08:59:19.0648073Z"));
+        GameResult veronika = result("Veronika", 20, ZonedDateTime.parse("2023-05-28T09:10:00Z"));
+        first.add(vera);
+        assertEquals(List.of(vera), second.getAll());
+        second.add(clara);
+        first.add(veronika);
+        second.add(vera);
+        List<GameResult> expected = List.of(vera, clara, veronika, vera);
+        assertEquals(expected, first.getAll());
+        assertEquals(expected, second.getAll());
+        assertEquals(expected, new BinaryGameResultManager(directory.resolve("results.bin")).getAll());
+        assertEquals(List.of(veronika), first.query(ResultQuery.builder().playerName("Veronika").build()));
+        assertEquals(List.of(clara), first.query(ResultQuery.builder().playerName("Clara").build()));
+    }
+
+    @Test
+    void getAll_unsupportedVersion() throws IOException {
+        var manager = new BinaryGameResultManager(directory.resolve("results.bin"));
+        manager.add(result("Vera", 18));
+        byte[] bytes = Files.readAllBytes(directory.resolve("results.bin"));
+        assertEquals(1, bytes[7]);
+        bytes[7] = 2;
+        Files.write(directory.resolve("results.bin"), bytes);
+        assertThrows(IOException.class, new BinaryGameResultManager(directory.resolve("results.bin"))::getAll);
+    }
+
+    @Test
+    void getBest() throws IOException {
+        var manager = new BinaryGameResultManager(directory.resolve("results.bin"));
+        var json = new JsonGameResultManager(directory.resolve("results.json"));
+        Random random = new Random(3);
+        List<GameResult> results = new ArrayList<>();
+        ZonedDateTime created = ZonedDateTime.parse("2023-05-28T08:35:55Z");
+        for (int i = 0; i < 100; i++) {
+            results.add(result("Player" + random.nextInt(10), random.nextInt(20), created));
+        }
+        manager.addAll(results);
+        for (GameResult result : results) {
+            json.add(result);
+        }
+        for (int limit : new int[] {0, 1, 10, 100, 200}) {
+            assertEquals(json.getBest(limit), manager.getBest(limit));
+        }
+    }
+
+    @Test
+    void migrate() throws IOException {
+        var json = new JsonGameResultManager(directory.resolve("results.json"));
+        json.add(result("Vera", 18));
+        json.add(result("Veronika", 32, ZonedDateTime.parse("2023-05-28T08:41:20.4942113Z")));
+        assertEquals(2, BinaryGameResultManager.migrate(directory.resolve("results.json"),
+                directory.resolve("results.bin")));
+        assertEquals(json.getAll(), new BinaryGameResultManager(directory.resolve("results.bin")).getAll());
+        assertEquals(0, BinaryGameResultManager.migrate(directory.resolve("results.json"),
+                directory.resolve("results.bin")));
+        assertEquals(json.getAll(), new BinaryGameResultManager(directory.resolve("results.bin")).getAll());
+    }
+
+    @Test
+    void getAll_truncatedHeader() throws IOException {
+        Path file = directory.resolve("results.bin");
+        Files.write(file, new byte[] {0x4C, 0x42, 0x52});
+        var manager = new BinaryGameResultManager(file);
+        assertThrows(IOException.class, manager::getAll);
+        assertThrows(IOException.class, () -> manager.add(result("Vera", 18)));
+        assertEquals(3, Files.size(file));
+    }
+
+    @Test
+    void getAll_notABinaryFile() throws IOException {
+        Files.writeString(directory.resolve("results.bin"), "[ {\n  \"playerName\" : \"Vera\"\n} ]");
+        var manager = new BinaryGameResultManager(directory.resolve("results.bin"));
+        assertThrows(IOException.class, manager::getAll);
+    }
+}
@@ -0,0 +1,168 @@
+package game.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static game.result.TestResults.result;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedGameResultManagerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void add() throws IOException {
+        Path file = directory.resolve("results.json");
+        try (var manager = new CachedGameResultManager(new JsonGameResultManager(file), file, 2)) {
+            assertEquals(List.of(), manager.getAll());
+            for (int i = 0; i < 10; i++) {
+                manager.add(result("Player" + i, 20 - i));
+            }
+            assertEquals(10, manager.getAll().size());
+            assertEquals(List.of(result("Player9", 11), result("Player8", 12)), manager.getBest(2));
+            manager.flush();
+            assertEquals(manager.getAll(), new JsonGameResultManager(file).getAll());
+        }
+    }
+
+    @Test
+    void close() throws IOException {
+        Path file = directory.resolve("results.json");
+        var manager = new CachedGameResultManager(new JsonGameResultManager(file), file);
+        manager.add(result("Vera", 18));
+        manager.add(result("Clara", 55));
+        manager.close();
+        assertEquals(List.of(result("Vera", 18), result("Clara", 55)), new JsonGameResultManager(file).getAll());
+        assertThrows(IOException.class, () -> manager.add(result("xy", 32)));
+    }
+
+    @Test
+    void getAll_afterExternalChange() throws IOException {
+        Path file = directory.resolve("results.json");
+        try (var manager = new CachedGameResultManager(new JsonGameResultManager(file), file)) {
+            manager.add(result("Vera", 18));
+            manager.flush();
+            assertEquals(List.of(result("Vera", 18)), manager.getAll());
+            new JsonGameResultManager(file).add(result("Clara", 55));
+            assertEquals(List.of(result("Vera", 18), result("Clara", 55)), manager.getAll());
+        }
+    }
+
+    @Test
+    void getAll_readsFileOnce() throws IOException {
+        Path file = directory.resolve("results.json");
+        var stored = new JsonGameResultManager(file);
+        stored.add(result("Vera", 18));
+        var reads = new AtomicInteger();
+        GameResultManager delegate = new GameResultManager() {
+            @Override
+            public void add(GameResult result) throws IOException {
+                stored.add(result);
+            }
+
+            @Override
+            public List<GameResult> getAll() throws IOException {
+                reads.incrementAndGet();
+                return stored.getAll();
+            }
+        };
+        try (var manager = new CachedGameResultManager(delegate, file)) {
+            assertEquals(List.of(result("Vera", 18)), manager.getAll());
+            assertEquals(List.of(result("Vera", 18)), manager.getAll());
+            assertEquals(1, reads.get());
+            manager.add(result("Clara", 55));
+            manager.flush();
+            // The written result is added to the copy, which then matches the grown file.
+            assertEquals(List.of(result("Vera", 18), result("Clara", 55)), manager.getAll());
+            assertEquals(1, manager.count(ResultQuery.builder().playerName("Clara").build()));
+            assertEquals(1, reads.get());
+            stored.add(result("xy", 32));
+            assertEquals(3, manager.getAll().size());
+            assertEquals(2, reads.get());
+        }
+    }
+
+    @Test
+    void query_mergesPendingResults() throws IOException {
+        var stored = new JsonGameResultManager(directory.resolve("results.json"));
+        stored.add(result("Vera", 18));
+        stored.add(result("Clara", 55));
+        stored.add(result("Veronika", 18));
+        // Answers only the queries that do not need all results.
+        GameResultManager delegate = new GameResultManager() {
+            @Override
+            public void add(GameResult result) throws IOException {
+                stored.add(result);
+            }
+
+            @Override
+            public List<GameResult> getAll() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<GameResult> getBest(int limit) throws IOException {
+                return stored.getBest(limit);
+            }
+
+            @Override
+            public List<GameResult> query(ResultQuery query) throws IOException {
+                return stored.query(query);
+            }
+
+            @Override
+            public long count(ResultQuery query) throws IOException {
+                return stored.count(query);
+            }
+        };
+        try (var manager = new CachedGameResultManager(delegate, directory.resolve("results.json"), 1)) {
+            manager.add(result("xy", 18));
+            manager.add(result("gfdg", 10));
+            manager.add(result("Vera", 40));
+            var expected = new JsonGameResultManager(directory.resolve("expected.json"));
+            for (GameResult result : List.of(result("Vera", 18), result("Clara", 55), result("Veronika", 18),
+                    result("xy", 18), result("gfdg", 10), result("Vera", 40))) {
+                expected.add(result);
+            }
+            assertEquals(expected.getBest(3), manager.getBest(3));
+            var query = ResultQuery.builder().playerName("Vera").descending(true).offset(1).limit(1).build();
+            assertEquals(expected.query(query), manager.query(query));
+            assertEquals(expected.query(ResultQuery.page(1, 4)), manager.query(ResultQuery.page(1, 4)));
+            assertEquals(2, manager.count(ResultQuery.builder().playerName("Vera").build()));
+            manager.flush();
+            assertEquals(expected.getBest(6), manager.getBest(6));
+        }
+    }
+
+    @Test
+    void flush_afterFailure() {
+        GameResultManager failing = new GameResultManager() {
+            @Override
+            public void add(GameResult result) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public List<GameResult> getAll() {
+                return List.of();
+            }
+        };
+        var manager = new CachedGameResultManager(failing, directory.resolve("results.json"));
+        assertDoesNotThrow(() -> manager.add(result("Vera", 18)));
+        assertThrows(IOException.class, manager::flush);
+        assertEquals(List.of(), assertDoesNotThrow(manager::getAll));
+    }
+
+    @Test
+    void constructor() {
+        Path file = directory.resolve("results.json");
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachedGameResultManager(new JsonGameResultManager(file), file, 0));
+    }
+}
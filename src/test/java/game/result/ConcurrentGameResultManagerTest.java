@@ -0,0 +1,141 @@
+package game.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static game.result.TestResults.result;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentGameResultManagerTest {
+
+    private static final int THREADS = 8;
+    private static final int RESULTS_PER_THREAD = 200;
+    private static final int PROCESSES = 3;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Adds results from several threads. Used as the main class of the processes started by
+     * {@link #add_multipleProcesses()}.
+     *
+     * @param args the result file and the prefix of the player names
+     * @throws Exception if adding fails
+     */
+    public static void main(String[] args) throws Exception {
+        addConcurrently(new ConcurrentGameResultManager(Path.of(args[0])), args[1]);
+    }
+
+    private static void addConcurrently(GameResultManager manager, String prefix) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                String playerName = prefix + "-" + thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < RESULTS_PER_THREAD; i++) {
+                        manager.add(result(playerName, i));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertComplete(List<GameResult> results, List<String> prefixes) {
+        assertEquals(prefixes.size() * THREADS * RESULTS_PER_THREAD, results.size());
+        Set<String> keys = new HashSet<>();
+        for (GameResult result : results) {
+            keys.add(result.getPlayerName() + ":" + result.getSteps());
+        }
+        for (String prefix : prefixes) {
+            for (int thread = 0; thread < THREADS; thread++) {
+                for (int i = 0; i < RESULTS_PER_THREAD; i++) {
+                    assertTrue(keys.contains(prefix + "-" + thread + ":" + i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void add() throws IOException {
+        Path file = directory.resolve("results.json");
+        var manager = new ConcurrentGameResultManager(file);
+        assertEquals(List.of(), manager.getAll());
+        manager.add(result("Vera", 18));
+        manager.add(result("Clara", 55));
+        assertEquals(List.of(result("Vera", 18), result("Clara", 55)), manager.getAll());
+        assertEquals(manager.getAll(), new JsonGameResultManager(file).getAll());
+    }
+
+    @Test
+    void add_multipleThreads() throws Exception {
+        Path file = directory.resolve("results.json");
+        addConcurrently(new ConcurrentGameResultManager(file), "a");
+        addConcurrently(new ConcurrentGameResultManager(file), "b");
+        assertComplete(new ConcurrentGameResultManager(file).getAll(), List.of("a", "b"));
+    }
+
+    @Test
+    void add_batchesUnderContention() throws Exception {
+        Path file = directory.resolve("results.json");
+        var manager = new ConcurrentGameResultManager(file);
+        addConcurrently(manager, "a");
+        assertComplete(manager.getAll(), List.of("a"));
+        // Each commit writes the results of every thread that queued one while the file was locked.
+        assertTrue(manager.getCommitCount() < THREADS * RESULTS_PER_THREAD,
+                "commits: " + manager.getCommitCount());
+    }
+
+    @Test
+    void shared() throws IOException {
+        Path file = directory.resolve("results.json");
+        var manager = new ConcurrentGameResultManager(file);
+        manager.add(result("Vera", 18));
+        assertEquals(List.of(result("Vera", 18)), manager.shared(() -> manager.shared(manager::getAll)));
+        assertEquals(1L, manager.exclusively(() -> manager.shared(() -> manager.count(ResultQuery.page(0, 10)))));
+        assertThrows(IllegalStateException.class, () -> manager.shared(() -> {
+            manager.add(result("Clara", 55));
+            return null;
+        }));
+        assertEquals(List.of(result("Vera", 18)), manager.getAll());
+    }
+
+    @Test
+    void add_multipleProcesses() throws Exception {
+        Path file = directory.resolve("results.json");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        var processes = new ArrayList<Process>();
+        var prefixes = new ArrayList<String>();
+        for (int i = 0; i < PROCESSES; i++) {
+            prefixes.add("p" + i);
+            processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    ConcurrentGameResultManagerTest.class.getName(), file.toString(), "p" + i)
+                    .inheritIO()
+                    .start());
+        }
+        prefixes.add("local");
+        addConcurrently(new ConcurrentGameResultManager(file), "local");
+        for (Process process : processes) {
+            assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+            assertEquals(0, process.exitValue());
+        }
+        assertComplete(new ConcurrentGameResultManager(file).getAll(), prefixes);
+    }
+}
@@ -0,0 +1,178 @@
+package game.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static game.result.TestResults.result;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedGameResultManagerTest {
+
+    private static final int THREADS = 8;
+    private static final int RESULTS_PER_THREAD = 100;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void getBest() throws IOException {
+        var results = new JsonGameResultManager(directory.resolve("results.json"));
+        var manager = index(results, 5);
+        Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            manager.add(result("Player" + i, random.nextInt(10)));
+        }
+        assertTrue(Files.exists(directory.resolve("results.best.json")));
+        for (int limit = 0; limit <= 7; limit++) {
+            assertEquals(results.getBest(limit), manager.getBest(limit));
+        }
+        var reopened = index(results, 5);
+        assertEquals(results.getBest(5), reopened.getBest(5));
+    }
+
+    @Test
+    void getBest_rebuildsMissingIndex() throws IOException {
+        var results = new JsonGameResultManager(directory.resolve("results.json"));
+        results.add(result("Vera", 18));
+        results.add(result("Clara", 55));
+        results.add(result("Veronika", 18));
+        results.add(result("xy", 32));
+        var manager = index(results, 3);
+        assertEquals(results.getBest(3), manager.getBest(3));
+        manager.add(result("gfdg", 18));
+        assertEquals(results.getBest(3), manager.getBest(3));
+        assertEquals(results.getAll(), manager.getAll());
+    }
+
+    @Test
+    void getBest_rebuildsCorruptIndex() throws IOException {
+        var results = new JsonGameResultManager(directory.resolve("results.json"));
+        index(results, 3).add(result("Vera", 18));
+        Files.writeString(directory.resolve("results.best.json"), "[{\"playerName\": \"Ve");
+        var manager = index(results, 3);
+        assertEquals(results.getBest(3), manager.getBest(3));
+        manager.add(result("Clara", 12));
+        assertEquals(results.getBest(3), manager.getBest(3));
+    }
+
+    @Test
+    void getBest_seesOtherWriters() throws IOException {
+        Path file = directory.resolve("results.json");
+        var first = index(new ConcurrentGameResultManager(file), 3);
+        var second = index(new ConcurrentGameResultManager(file), 3);
+        first.add(result("Vera", 30));
+        second.add(result("Clara", 20));
+        first.add(result("Veronika", 25));
+        // Added without the index, as a process with an older version would.
+        new ConcurrentGameResultManager(file).add(result("xy", 10));
+        var results = new JsonGameResultManager(file);
+        assertEquals(results.getBest(3), first.getBest(3));
+        assertEquals(results.getBest(3), second.getBest(3));
+        second.add(result("gfdg", 15));
+        assertEquals(results.getBest(3), first.getBest(3));
+    }
+
+    @Test
+    void add_storesOnlyChangedIndex() throws IOException {
+        var results = new JsonGameResultManager(directory.resolve("results.json"));
+        var manager = index(results, 3);
+        manager.add(result("Vera", 18));
+        manager.add(result("Clara", 12));
+        manager.add(result("Veronika", 25));
+        Path indexPath = directory.resolve("results.best.json");
+        String stored = Files.readString(indexPath);
+        manager.add(result("xy", 30));
+        assertEquals(stored, Files.readString(indexPath));
+        assertEquals(results.getBest(3), manager.getBest(3));
+        // The results file has grown since the index was stored, so a new manager rebuilds it.
+        assertEquals(results.getBest(3), index(results, 3).getBest(3));
+        assertNotEquals(stored, Files.readString(indexPath));
+        manager.add(result("gfdg", 15));
+        assertEquals(results.getBest(3), manager.getBest(3));
+    }
+
+    @Test
+    void add_batchesUnderContention() throws Exception {
+        Path file = directory.resolve("results.json");
+        var results = new ConcurrentGameResultManager(file);
+        var manager = index(results, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                String playerName = "Player" + thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < RESULTS_PER_THREAD; i++) {
+                        manager.add(result(playerName, (i * 7919) % 1000));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(THREADS * RESULTS_PER_THREAD, manager.getAll().size());
+        assertTrue(results.getCommitCount() < THREADS * RESULTS_PER_THREAD,
+                "commits: " + results.getCommitCount());
+        assertEquals(new JsonGameResultManager(file).getBest(10), manager.getBest(10));
+    }
+
+    @Test
+    void count() throws IOException {
+        var results = new JsonGameResultManager(directory.resolve("results.json"));
+        var scans = new AtomicInteger();
+        GameResultManager scanning = new GameResultManager() {
+            @Override
+            public void add(GameResult result) throws IOException {
+                results.add(result);
+            }
+
+            @Override
+            public List<GameResult> getAll() throws IOException {
+                scans.incrementAndGet();
+                return results.getAll();
+            }
+        };
+        var manager = index(scanning, 3);
+        for (int i = 0; i < 10; i++) {
+            manager.add(result("Player" + i, 10 - i));
+        }
+        int before = scans.get();
+        assertEquals(10, manager.count(ResultQuery.page(0, 5)));
+        assertEquals(10, index(scanning, 3).count(ResultQuery.builder().build()));
+        assertEquals(before, scans.get());
+        assertEquals(1, manager.count(ResultQuery.builder().playerName("Player3").build()));
+        assertEquals(before + 1, scans.get());
+    }
+
+    @Test
+    void add_replacesIndexAtomically() throws IOException {
+        var manager = index(new JsonGameResultManager(directory.resolve("results.json")), 3);
+        for (int i = 0; i < 10; i++) {
+            manager.add(result("Player" + i, i));
+        }
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of("results.best.json", "results.json"),
+                    files.map(path -> path.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    private IndexedGameResultManager index(GameResultManager results, int capacity) {
+        return new IndexedGameResultManager(results, directory.resolve("results.json"),
+                directory.resolve("results.best.json"), capacity);
+    }
+}
@@ -0,0 +1,59 @@
+package game.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static game.result.TestResults.result;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcGameResultManagerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void add() throws IOException {
+        Path database = directory.resolve("results");
+        try (var manager = new JdbcGameResultManager(database)) {
+            assertEquals(List.of(), manager.getAll());
+            manager.add(result("Vera", 18));
+            manager.add(result("Clara", 55));
+        }
+        try (var manager = new JdbcGameResultManager(database)) {
+            assertEquals(List.of(result("Vera", 18), result("Clara", 55)), manager.getAll());
+        }
+    }
+
+    @Test
+    void addAll() throws IOException {
+        List<GameResult> results = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            results.add(result("Player" + i, i % 100));
+        }
+        try (var manager = new JdbcGameResultManager(directory.resolve("results"))) {
+            manager.addAll(results);
+            assertEquals(results, manager.getAll());
+        }
+    }
+
+    @Test
+    void getBest() throws IOException {
+        try (var manager = new JdbcGameResultManager(directory.resolve("results"))) {
+            manager.add(result("a", 30));
+            manager.add(result("b", 10));
+            manager.add(result("c", 20));
+            manager.add(result("d", 10));
+            assertEquals(List.of(result("b", 10), result("d", 10), result("c", 20)), manager.getBest(3));
+            assertEquals(manager.getAll().stream()
+                    .sorted(Comparator.comparingInt(GameResult::getSteps))
+                    .toList(), manager.getBest(10));
+            assertEquals(List.of(), manager.getBest(0));
+        }
+    }
+}
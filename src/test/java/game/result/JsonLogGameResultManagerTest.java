@@ -0,0 +1,67 @@
+package game.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static game.result.TestResults.result;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLogGameResultManagerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void add() throws IOException {
+        Path file = directory.resolve("results.log");
+        List<GameResult> expected = new ArrayList<>();
+        try (var manager = new JsonLogGameResultManager(file, 3, 1000)) {
+            assertEquals(List.of(), manager.getAll());
+            for (int i = 0; i < 10; i++) {
+                GameResult result = result("Player" + i, 20 - i);
+                manager.add(result);
+                expected.add(result);
+            }
+            assertEquals(expected, manager.getAll());
+            assertEquals(10, Files.readAllLines(file).size());
+        }
+        try (var manager = new JsonLogGameResultManager(file)) {
+            assertEquals(expected, manager.getAll());
+            assertEquals(List.of(expected.get(9), expected.get(8), expected.get(7)), manager.getBest(3));
+        }
+    }
+
+    @Test
+    void add_afterIncompleteLine() throws IOException {
+        Path file = directory.resolve("results.log");
+        try (var manager = new JsonLogGameResultManager(file)) {
+            manager.add(result("Vera", 18));
+        }
+        Files.writeString(file, "{\"playerName\":\"Cla", StandardOpenOption.APPEND);
+        try (var manager = new JsonLogGameResultManager(file)) {
+            manager.add(result("Clara", 55));
+            assertEquals(List.of(result("Vera", 18), result("Clara", 55)), manager.getAll());
+        }
+    }
+
+    @Test
+    void compact() throws IOException {
+        Path file = directory.resolve("results.log");
+        Files.writeString(file, "{\"playerName\":\"Cla\n");
+        try (var manager = new JsonLogGameResultManager(file, 1, 2)) {
+            manager.add(result("Vera", 18));
+            assertEquals(2, Files.readAllLines(file).size());
+            manager.add(result("Clara", 55));
+            assertEquals(2, Files.readAllLines(file).size());
+            manager.add(result("xy", 32));
+            assertEquals(List.of(result("Vera", 18), result("Clara", 55), result("xy", 32)), manager.getAll());
+        }
+    }
+}
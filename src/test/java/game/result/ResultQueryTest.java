@@ -0,0 +1,104 @@
+package game.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static game.result.TestResults.CREATED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultQueryTest {
+
+    @TempDir
+    Path directory;
+
+    private static GameResult result(String playerName, int steps, int day) {
+        return TestResults.result(playerName, steps, CREATED.plusDays(day));
+    }
+
+    private static List<GameResult> results() {
+        var results = new ArrayList<GameResult>();
+        String[] players = {"Vera", "Clara", "xy"};
+        for (int i = 0; i < 30; i++) {
+            results.add(result(players[i % 3], 10 + (i * 7) % 13, i));
+        }
+        return results;
+    }
+
+    private static List<ResultQuery> queries() {
+        return List.of(
+                ResultQuery.page(0, 10),
+                ResultQuery.page(25, 10),
+                ResultQuery.builder().playerName("Clara").build(),
+                ResultQuery.builder().playerName("nobody").build(),
+                ResultQuery.builder().minSteps(12).maxSteps(15).sortKey(ResultQuery.SortKey.CREATED).build(),
+                ResultQuery.builder().createdFrom(CREATED.plusDays(5)).createdTo(CREATED.plusDays(12))
+                        .descending(true).build(),
+                ResultQuery.builder().sortKey(ResultQuery.SortKey.PLAYER_NAME).offset(4).limit(8).build(),
+                ResultQuery.builder().limit(0).build());
+    }
+
+    @Test
+    void matches() {
+        var query = ResultQuery.builder()
+                .playerName("Vera")
+                .minSteps(10)
+                .maxSteps(20)
+                .createdFrom(CREATED)
+                .createdTo(CREATED.plusDays(1))
+                .build();
+        assertTrue(query.matches(result("Vera", 10, 0)));
+        assertTrue(query.matches(result("Vera", 20, 0)));
+        assertFalse(query.matches(result("Vera", 21, 0)));
+        assertFalse(query.matches(result("Clara", 15, 0)));
+        assertFalse(query.matches(result("Vera", 15, 1)));
+        assertFalse(query.isUnfiltered());
+        assertTrue(ResultQuery.page(3, 5).isUnfiltered());
+    }
+
+    @Test
+    void select() {
+        List<GameResult> results = List.of(result("a", 30, 0), result("b", 10, 1), result("c", 20, 2),
+                result("d", 10, 3));
+        assertEquals(List.of(result("b", 10, 1), result("d", 10, 3), result("c", 20, 2)),
+                ResultQuery.page(0, 3).select(results.stream()));
+        assertEquals(List.of(result("c", 20, 2), result("a", 30, 0)),
+                ResultQuery.page(2, 10).select(results.stream()));
+        assertEquals(List.of(result("a", 30, 0), result("c", 20, 2), result("b", 10, 1), result("d", 10, 3)),
+                ResultQuery.builder().descending(true).build().select(results.stream()));
+        assertEquals(List.of(), ResultQuery.page(4, 10).select(results.stream()));
+    }
+
+    @Test
+    void query_allBackends() throws IOException {
+        List<GameResult> results = results();
+        Path json = directory.resolve("results.json");
+        var binary = new BinaryGameResultManager(directory.resolve("results.bin"));
+        binary.addAll(results);
+        try (var jdbc = new JdbcGameResultManager(directory.resolve("results"))) {
+            jdbc.addAll(results);
+            List<GameResultManager> managers = List.of(
+                    new JsonGameResultManager(json),
+                    new ConcurrentGameResultManager(json),
+                    new IndexedGameResultManager(new JsonGameResultManager(json), json,
+                            directory.resolve("best.json"), 20),
+                    binary,
+                    jdbc);
+            for (GameResult result : results) {
+                new JsonGameResultManager(json).add(result);
+            }
+            for (ResultQuery query : queries()) {
+                List<GameResult> expected = query.select(results.stream());
+                long count = results.stream().filter(query::matches).count();
+                for (GameResultManager manager : managers) {
+                    assertEquals(expected, manager.query(query), manager.getClass().getSimpleName() + " " + query);
+                    assertEquals(count, manager.count(query), manager.getClass().getSimpleName() + " " + query);
+                }
+            }
+        }
+    }
+}
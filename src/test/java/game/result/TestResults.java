@@ -0,0 +1,29 @@
+package game.result;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Creates the results used by the tests of the result managers.
+ */
+final class TestResults {
+
+    /**
+     * The creation time of the results that do not specify one.
+     */
+    static final ZonedDateTime CREATED = ZonedDateTime.parse("2023-05-28T08:35:55.3839148Z");
+
+    private TestResults() {
+    }
+
+    static GameResult result(String playerName, int steps) {
+        return result(playerName, steps, CREATED);
+    }
+
+    static GameResult result(String playerName, int steps, ZonedDateTime created) {
+        return GameResult.builder()
+                .playerName(playerName)
+                .steps(steps)
+                .created(created)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package game.solver;
+
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BfsSolverTest {
+
+    private final BfsSolver solver = new BfsSolver();
+
+    @Test
+    void solve() {
+        Board board = new Board(new Position(1, 4));
+        Solution solution = solver.solve(board).orElseThrow();
+        assertEquals(18, solution.getLength());
+        assertSolves(new Position(1, 4), solution);
+    }
+
+    @Test
+    void solve_shortBoard() {
+        Board board = new Board(new Position(3, 3));
+        Solution solution = solver.solve(board).orElseThrow();
+        assertEquals(5, solution.getLength());
+        assertSolves(new Position(3, 3), solution);
+    }
+
+    @Test
+    void solve_startOnGoal() {
+        Board board = new Board(new Position(5, 2));
+        Solution solution = solver.solve(board).orElseThrow();
+        assertEquals(List.of(), solution.getMoves());
+    }
+
+    @Test
+    void solve_doesNotMoveTheBall() {
+        Board board = new Board(new Position(1, 4));
+        solver.solve(board);
+        assertEquals(new Position(1, 4), board.getBall());
+        assertEquals(0, board.getSteps());
+    }
+
+    private void assertSolves(Position start, Solution solution) {
+        Board board = new Board(start);
+        for (Direction direction : solution.getMoves()) {
+            assertFalse(board.isGameOver());
+            board.move(direction);
+        }
+        assertTrue(board.isGameOver());
+        assertEquals(solution.getLength(), board.getSteps());
+    }
+}
@@ -0,0 +1,37 @@
+package game.solver;
+
+import game.state.Board;
+import game.state.Position;
+import game.state.WallGrid;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistanceSolverTest {
+
+    private final DistanceSolver solver = new DistanceSolver();
+
+    @Test
+    void distances() {
+        Board board = new Board(new Position(1, 4));
+        WallGrid walls = board.getWalls();
+        int[] distances = solver.distances(board);
+        assertEquals(walls.getCellCount(), distances.length);
+        assertEquals(0, distances[walls.cellOf(5, 2)]);
+        assertEquals(18, distances[walls.cellOf(1, 4)]);
+        assertEquals(5, distances[walls.cellOf(3, 3)]);
+    }
+
+    @Test
+    void distances_matchBfsSolver() {
+        Board board = new Board(new Position(0, 0));
+        int[] distances = solver.distances(board);
+        BfsSolver bfsSolver = new BfsSolver();
+        for (int cell = 0; cell < distances.length; cell++) {
+            int expected = bfsSolver.solve(board, cell)
+                    .map(Solution::getLength)
+                    .orElse(DistanceSolver.UNREACHABLE);
+            assertEquals(expected, distances[cell], "cell " + cell);
+        }
+    }
+}
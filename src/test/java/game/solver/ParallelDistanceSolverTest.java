@@ -0,0 +1,65 @@
+package game.solver;
+
+import game.state.Board;
+import game.state.Direction;
+import game.state.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelDistanceSolverTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void distances() {
+        ParallelDistanceSolver solver = new ParallelDistanceSolver(pool, 1);
+        DistanceSolver sequentialSolver = new DistanceSolver();
+        for (Board board : randomBoards(20)) {
+            assertArrayEquals(sequentialSolver.distances(board), solver.distances(board));
+        }
+    }
+
+    @Test
+    void distances_batch() {
+        ParallelDistanceSolver solver = new ParallelDistanceSolver(pool, 1);
+        DistanceSolver sequentialSolver = new DistanceSolver();
+        List<Board> boards = randomBoards(20);
+        List<int[]> distances = solver.distances(boards);
+        assertEquals(boards.size(), distances.size());
+        for (int i = 0; i < boards.size(); i++) {
+            assertArrayEquals(sequentialSolver.distances(boards.get(i)), distances.get(i));
+        }
+        assertEquals(List.of(), solver.distances(List.of()));
+    }
+
+    @Test
+    void constructor_invalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelDistanceSolver(pool, 0));
+    }
+
+    private static List<Board> randomBoards(int count) {
+        Random random = new Random(42);
+        List<Board> boards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Board board = new Board(new Position(1, 4));
+            for (int j = 0; j < 10; j++) {
+                Position position = new Position(random.nextInt(board.getSize()), random.nextInt(board.getSize()));
+                board.getSquare(position).setWall(Direction.values()[random.nextInt(4)]);
+            }
+            boards.add(board);
+        }
+        return boards;
+    }
+}
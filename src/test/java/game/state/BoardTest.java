@@ -2,6 +2,9 @@ package game.state;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class BoardTest {
@@ -41,6 +44,32 @@ class BoardTest {
         assertEquals(ballPosition2, board2.getBall());
     }
 
+    @Test
+    public void Board_customWalls() {
+        WallGrid walls = new WallGrid(3);
+        walls.addWall(1, 1, Direction.RIGHT);
+        Board board = new Board(walls, new Position(2, 2), new Position(1, 0));
+        assertEquals(3, board.getSize());
+        assertEquals(new Position(2, 2), board.getGoal());
+        assertTrue(board.getSquare(new Position(0, 0)).hasWall(Direction.UP));
+        assertTrue(board.getSquare(new Position(1, 2)).hasWall(Direction.LEFT));
+        board.move(Direction.RIGHT);
+        assertEquals(new Position(1, 1), board.getBall());
+        assertThrows(IllegalArgumentException.class, () -> new Board(walls, new Position(3, 0), new Position(0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> new Board(walls, new Position(0, 0), new Position(0, -1)));
+    }
+
+    @Test
+    public void Board_sharedLabyrinth() {
+        Board board = new Board(board1, new Position(3, 3));
+        assertSame(board1.getWalls(), board.getWalls());
+        assertEquals(board1.getGoal(), board.getGoal());
+        assertEquals(new Position(3, 3), board.getBall());
+        assertEquals(0, board.getSteps());
+        board.move(Direction.UP);
+        assertEquals(ballPosition1, board1.getBall());
+    }
+
     @Test
     public void getSize() {
         assertEquals(7, board1.getSize());
@@ -219,4 +248,41 @@ class BoardTest {
         board2.move(Direction.RIGHT);
         assertEquals(new Position(5,2),board2.getGoal());
     }
+
+    @Test
+    public void slide() {
+        WallGrid walls = board1.getWalls();
+        assertEquals(walls.cellOf(1, 6), board1.slide(walls.cellOf(1, 4), Direction.RIGHT));
+        assertEquals(walls.cellOf(3, 6), board1.slide(walls.cellOf(1, 6), Direction.DOWN));
+        assertEquals(walls.cellOf(1, 6), board1.slide(walls.cellOf(1, 6), Direction.UP));
+        assertEquals(walls.cellOf(5, 2), board2.slide(walls.cellOf(2, 2), Direction.DOWN));
+        assertEquals(walls.cellOf(5, 2), board2.slide(walls.cellOf(5, 2), Direction.UP));
+        assertEquals(new Position(1, 4), board1.getBall());
+    }
+
+    @Test
+    public void slide_afterWallChange() {
+        WallGrid walls = board1.getWalls();
+        assertEquals(walls.cellOf(1, 6), board1.slide(walls.cellOf(1, 4), Direction.RIGHT));
+        board1.getSquare(new Position(1, 5)).setWall(Direction.RIGHT);
+        assertEquals(walls.cellOf(1, 5), board1.slide(walls.cellOf(1, 4), Direction.RIGHT));
+        board1.move(Direction.RIGHT);
+        assertEquals(new Position(1, 5), board1.getBall());
+    }
+
+    @Test
+    public void move_doesNotAllocate() {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Board board = new Board(new Position(2, 0));
+        Direction[] directions = {Direction.RIGHT, Direction.LEFT, Direction.UP, Direction.DOWN};
+        for (int i = 0; i < 100_000; i++) {
+            board.move(directions[i & 3]);
+        }
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            board.move(directions[i & 3]);
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < 1024, "Allocated " + allocated + " bytes");
+    }
 }
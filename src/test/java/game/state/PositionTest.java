@@ -30,6 +30,14 @@ class PositionTest {
         assertEquals(new Position(2, 1), position.getAdjacentPosition(Direction.LEFT));
     }
 
+    @Test
+    void of() {
+        assertSame(Position.of(3, 5), Position.of(3, 5));
+        assertSame(Position.of(2, 3), Position.of(2, 2).getAdjacentPosition(Direction.RIGHT));
+        assertEquals(new Position(1000, 1000), Position.of(1000, 1000));
+        assertEquals(new Position(-1, 0), Position.of(0, 0).getAdjacentPosition(Direction.UP));
+    }
+
     @Test
     void testEquals() {
         assertTrue(position.equals(position));
@@ -45,13 +53,7 @@ class PositionTest {
     void testHashCode() {
         assertTrue(position.hashCode() == position.hashCode());
         assertTrue(position.hashCode() == new Position(position.row(), position.col()).hashCode());
-    }
-
-    @Test
-    void testClone() {
-        var clone = position.clone();
-        assertTrue(clone.equals(position));
-        assertNotSame(position, clone);
+        assertNotEquals(new Position(1, 2).hashCode(), new Position(2, 1).hashCode());
     }
 
     @Test
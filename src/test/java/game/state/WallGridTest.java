@@ -0,0 +1,52 @@
+package game.state;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WallGridTest {
+
+    @Test
+    void constructor() {
+        WallGrid walls = new WallGrid(3);
+        assertEquals(3, walls.getSize());
+        assertEquals(9, walls.getCellCount());
+        for (int cell = 0; cell < walls.getCellCount(); cell++) {
+            assertEquals(0, walls.getWalls(cell));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new WallGrid(0));
+    }
+
+    @Test
+    void cellOf() {
+        WallGrid walls = new WallGrid(7);
+        assertEquals(0, walls.cellOf(0, 0));
+        assertEquals(6, walls.cellOf(0, 6));
+        assertEquals(7, walls.cellOf(1, 0));
+        assertEquals(48, walls.cellOf(6, 6));
+    }
+
+    @Test
+    void setWall() {
+        WallGrid walls = new WallGrid(3);
+        walls.setWall(4, Direction.UP);
+        walls.setWall(5, Direction.LEFT);
+        assertTrue(walls.hasWall(4, Direction.UP));
+        assertFalse(walls.hasWall(4, Direction.LEFT));
+        assertTrue(walls.hasWall(5, Direction.LEFT));
+        assertFalse(walls.hasWall(5, Direction.UP));
+        assertFalse(walls.hasWall(3, Direction.UP));
+        assertEquals(Direction.UP.getMask(), walls.getWalls(4));
+        assertEquals(Direction.LEFT.getMask(), walls.getWalls(5));
+        walls.setWall(4, Direction.DOWN);
+        assertEquals(Direction.UP.getMask() | Direction.DOWN.getMask(), walls.getWalls(4));
+    }
+
+    @Test
+    void getModCount() {
+        WallGrid walls = new WallGrid(2);
+        int modCount = walls.getModCount();
+        walls.setWall(0, Direction.RIGHT);
+        assertNotEquals(modCount, walls.getModCount());
+    }
+}
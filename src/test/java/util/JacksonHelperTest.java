@@ -0,0 +1,128 @@
+package util;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import game.result.GameResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonHelperTest {
+
+    @TempDir
+    Path directory;
+
+    private static final List<GameResult> RESULTS = List.of(
+            new GameResult("Vera", 18, ZonedDateTime.parse("2023-05-28T08:35:55.3839148Z")),
+            new GameResult("Clara", 55, ZonedDateTime.parse("2023-05-28T08:59:19.0648073Z")),
+            new GameResult("xy", 32, ZonedDateTime.parse("2023-05-28T09:01:02Z")));
+
+    private static byte[] toJson(List<GameResult> results, boolean pretty) throws IOException {
+        var out = new ByteArrayOutputStream();
+        JacksonHelper.writeList(out, results, pretty);
+        return out.toByteArray();
+    }
+
+    @Test
+    void writeList() throws IOException {
+        String pretty = new String(toJson(RESULTS, true));
+        String compact = new String(toJson(RESULTS, false));
+        assertTrue(pretty.contains("\n"));
+        assertFalse(compact.contains("\n"));
+        assertEquals(RESULTS, JacksonHelper.readList(new ByteArrayInputStream(compact.getBytes()), GameResult.class));
+    }
+
+    @Test
+    void streamList() throws IOException {
+        try (Stream<GameResult> results = JacksonHelper.streamList(
+                new ByteArrayInputStream(toJson(RESULTS, true)), GameResult.class)) {
+            assertEquals(RESULTS, results.toList());
+        }
+        try (Stream<GameResult> results = JacksonHelper.streamList(
+                new ByteArrayInputStream(toJson(List.of(), true)), GameResult.class)) {
+            assertEquals(0, results.count());
+        }
+    }
+
+    @Test
+    void listWriter() throws IOException {
+        for (boolean pretty : new boolean[] {true, false}) {
+            var out = new ByteArrayOutputStream();
+            try (SequenceWriter writer = JacksonHelper.listWriter(out, pretty)) {
+                for (GameResult result : RESULTS) {
+                    writer.write(result);
+                }
+            }
+            assertArrayEquals(toJson(RESULTS, pretty), out.toByteArray());
+        }
+    }
+
+    @Test
+    void appendToList() throws IOException {
+        for (boolean pretty : new boolean[] {true, false}) {
+            Path file = directory.resolve("results-" + pretty + ".json");
+            JacksonHelper.appendToList(file, RESULTS.subList(0, 1), pretty);
+            JacksonHelper.appendToList(file, RESULTS.subList(1, 3), pretty);
+            assertArrayEquals(toJson(RESULTS, pretty), Files.readAllBytes(file));
+        }
+    }
+
+    @Test
+    void appendToList_emptyArray() throws IOException {
+        for (boolean pretty : new boolean[] {true, false}) {
+            Path file = directory.resolve("results-" + pretty + ".json");
+            Files.write(file, toJson(List.of(), pretty));
+            Files.writeString(file, "\r\n", StandardOpenOption.APPEND);
+            JacksonHelper.appendToList(file, RESULTS, pretty);
+            assertArrayEquals(toJson(RESULTS, pretty), Files.readAllBytes(file));
+        }
+    }
+
+    @Test
+    void appendToList_interrupted() throws IOException {
+        Path file = directory.resolve("results.json");
+        JacksonHelper.appendToList(file, RESULTS.subList(0, 1), true);
+        byte[] complete = Files.readAllBytes(file);
+        // What an append that stopped before replacing the bracket leaves behind.
+        Files.write(file, " {\"playerName\" : \"Cla".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Files.writeString(directory.resolve("results.json.append"), Integer.toString(complete.length - 1));
+        try (var in = Files.newInputStream(file)) {
+            assertEquals(RESULTS.subList(0, 1), JacksonHelper.readList(in, GameResult.class));
+        }
+        try (var in = Files.newInputStream(file);
+             Stream<GameResult> results = JacksonHelper.streamList(in, GameResult.class)) {
+            assertEquals(RESULTS.subList(0, 1), results.toList());
+        }
+        JacksonHelper.appendToList(file, RESULTS.subList(1, 3), true);
+        assertArrayEquals(toJson(RESULTS, true), Files.readAllBytes(file));
+        assertFalse(Files.exists(directory.resolve("results.json.append")));
+    }
+
+    @Test
+    void appendToList_longWhitespace() throws IOException {
+        Path file = directory.resolve("results.json");
+        Files.writeString(file, "[ ]" + " ".repeat(1000));
+        JacksonHelper.appendToList(file, RESULTS, false);
+        try (var in = Files.newInputStream(file)) {
+            assertEquals(RESULTS, JacksonHelper.readList(in, GameResult.class));
+        }
+    }
+
+    @Test
+    void appendToList_notAnArray() throws IOException {
+        Path file = directory.resolve("results.json");
+        Files.writeString(file, "{ }");
+        assertThrows(IOException.class, () -> JacksonHelper.appendToList(file, RESULTS, true));
+    }
+}
@@ -0,0 +1,54 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntDequeTest {
+
+    @Test
+    void addAndRemove() {
+        var deque = new IntDeque(2);
+        deque.addLast(1);
+        deque.addLast(2);
+        deque.addFirst(0);
+        assertEquals(3, deque.size());
+        assertEquals(0, deque.getFirst());
+        assertEquals(2, deque.getLast());
+        assertEquals(0, deque.removeFirst());
+        assertEquals(2, deque.removeLast());
+        assertEquals(1, deque.removeFirst());
+        assertTrue(deque.isEmpty());
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+        assertThrows(NoSuchElementException.class, deque::removeLast);
+        assertThrows(IllegalArgumentException.class, () -> new IntDeque(-1));
+    }
+
+    @Test
+    void addAndRemove_matchesArrayDeque() {
+        var random = new Random(42);
+        var deque = new IntDeque(1);
+        var expected = new ArrayDeque<Integer>();
+        for (int i = 0; i < 10_000; i++) {
+            switch (expected.isEmpty() ? random.nextInt(2) : random.nextInt(4)) {
+                case 0 -> {
+                    deque.addFirst(i);
+                    expected.addFirst(i);
+                }
+                case 1 -> {
+                    deque.addLast(i);
+                    expected.addLast(i);
+                }
+                case 2 -> assertEquals(expected.removeFirst(), deque.removeFirst());
+                default -> assertEquals(expected.removeLast(), deque.removeLast());
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+        deque.clear();
+        assertTrue(deque.isEmpty());
+    }
+}
@@ -0,0 +1,46 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashSetTest {
+
+    @Test
+    void add() {
+        var set = new IntHashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(3));
+        assertFalse(set.add(3));
+        assertTrue(set.add(Integer.MIN_VALUE));
+        assertFalse(set.add(Integer.MIN_VALUE));
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertFalse(set.contains(4));
+        assertEquals(2, set.size());
+        set.clear();
+        assertFalse(set.contains(3));
+        assertFalse(set.contains(Integer.MIN_VALUE));
+        assertEquals(0, set.size());
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(-1));
+    }
+
+    @Test
+    void add_matchesHashSet() {
+        var random = new Random(42);
+        var set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            int value = random.nextInt(5_000) - 100;
+            assertEquals(expected.add(value), set.add(value));
+        }
+        assertEquals(expected.size(), set.size());
+        for (int value = -200; value < 5_100; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntHashMapTest {
+
+    @Test
+    void put() {
+        var map = new IntIntHashMap(-1);
+        assertEquals(-1, map.get(7));
+        assertEquals(-1, map.put(7, 3));
+        assertEquals(3, map.put(7, 4));
+        assertEquals(4, map.get(7));
+        assertFalse(map.putIfAbsent(7, 5));
+        assertTrue(map.putIfAbsent(Integer.MIN_VALUE, 5));
+        assertEquals(5, map.get(Integer.MIN_VALUE));
+        assertTrue(map.containsKey(Integer.MIN_VALUE));
+        assertEquals(2, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(-1, map.get(7));
+        assertEquals(-1, map.get(Integer.MIN_VALUE));
+    }
+
+    @Test
+    void put_matchesHashMap() {
+        var random = new Random(42);
+        var map = new IntIntHashMap(-1, 0);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextInt(5_000);
+            int value = random.nextInt(100);
+            assertEquals(expected.getOrDefault(key, -1), map.put(key, value));
+            expected.put(key, value);
+        }
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, -1), map.get(key));
+        }
+    }
+}
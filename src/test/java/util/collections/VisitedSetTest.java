@@ -0,0 +1,39 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VisitedSetTest {
+
+    @Test
+    void visit() {
+        var visited = new VisitedSet(100);
+        assertTrue(visited.visit(0));
+        assertTrue(visited.visit(63));
+        assertTrue(visited.visit(64));
+        assertTrue(visited.visit(99));
+        assertFalse(visited.visit(64));
+        assertTrue(visited.isVisited(63));
+        assertFalse(visited.isVisited(62));
+        assertThrows(IndexOutOfBoundsException.class, () -> visited.visit(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> visited.isVisited(120));
+        assertThrows(IndexOutOfBoundsException.class, () -> visited.visit(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> visited.visit(128));
+        assertThrows(IllegalArgumentException.class, () -> new VisitedSet(-1));
+    }
+
+    @Test
+    void reset() {
+        var visited = new VisitedSet(100);
+        visited.visit(70);
+        visited.reset(100);
+        assertFalse(visited.isVisited(70));
+        visited.reset(1000);
+        assertTrue(visited.visit(999));
+        visited.reset(10);
+        assertThrows(IndexOutOfBoundsException.class, () -> visited.isVisited(999));
+        visited.reset(1000);
+        assertFalse(visited.isVisited(999));
+    }
+}